@@ -0,0 +1,207 @@
+package com.softserve.taf.services.common;
+
+import io.restassured.RestAssured;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.RequestSpecification;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import com.softserve.taf.models.enums.HttpStatus;
+
+/**
+ * This class sends non-blocking HTTP requests built from a RequestSpecification.
+ * Base URI, port, base path and headers are taken from the specification; filters and
+ * authentication schemes configured on it are not applied.
+ * @since 18Oct2026
+ */
+public class AsyncWebClient {
+
+    private static final Map<HttpClient.Version, HttpClient> CLIENTS = new EnumMap<>(Map.of(
+        HttpClient.Version.HTTP_1_1, HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build(),
+        HttpClient.Version.HTTP_2, HttpClient.newBuilder().version(HttpClient.Version.HTTP_2).build()));
+    private static final Pattern PATH_PARAM = Pattern.compile("\\{[^}]+}");
+    private static final Flow.Subscriber<List<ByteBuffer>> DISCARD = new Flow.Subscriber<>() {
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            subscription.cancel();
+        }
+
+        @Override
+        public void onNext(List<ByteBuffer> item) {
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+        }
+
+        @Override
+        public void onComplete() {
+        }
+    };
+
+    private final HttpClient client;
+    private final String endpoint;
+    private final Supplier<EndpointMetrics> metrics;
+    private final String baseUrl;
+    private final String contentType;
+    private final String[] headers;
+
+    /**
+     * Constructs a new AsyncWebClient from the given specification that sends HTTP/1.1 requests.
+     *
+     * @param specification The RequestSpecification providing base URI, path and headers.
+     * @param endpoint      The simple name of the owning endpoint class used as a metrics tag.
+     * @param metrics       The supplier of the registry currently configured on the endpoint.
+     */
+    public AsyncWebClient(RequestSpecification specification, String endpoint, Supplier<EndpointMetrics> metrics) {
+        this(specification, endpoint, metrics, HttpClient.Version.HTTP_1_1);
+    }
+
+    /**
+     * Constructs a new AsyncWebClient from the given specification that sends requests with the given version.
+     * With HTTP/2 concurrent requests to one host are multiplexed as streams over a single connection;
+     * https URIs negotiate it through ALPN and http URIs through an h2c upgrade, falling back to HTTP/1.1
+     * when the server does not support it.
+     *
+     * @param specification The RequestSpecification providing base URI, path and headers.
+     * @param endpoint      The simple name of the owning endpoint class used as a metrics tag.
+     * @param metrics       The supplier of the registry currently configured on the endpoint.
+     * @param version       The preferred HTTP version.
+     */
+    public AsyncWebClient(RequestSpecification specification, String endpoint, Supplier<EndpointMetrics> metrics,
+                          HttpClient.Version version) {
+        this.client = CLIENTS.get(version);
+        this.endpoint = endpoint;
+        this.metrics = metrics;
+        FilterableRequestSpecification spec = (FilterableRequestSpecification) specification;
+        URI baseUri = URI.create(spec.getBaseUri());
+        // REST-assured sends a base URI without an explicit port to the specification's resolved port,
+        // which is 8080 rather than the scheme's default port when none was set.
+        String port = baseUri.getPort() == -1
+            && spec.getPort() != RestAssured.UNDEFINED_PORT ? ":" + spec.getPort() : "";
+        this.baseUrl = spec.getBaseUri() + port + spec.getBasePath();
+        this.contentType = spec.getContentType() != null ? spec.getContentType() : "application/json";
+        this.headers = spec.getHeaders().asList().stream()
+            .filter(header -> !"Content-Type".equalsIgnoreCase(header.getName()))
+            .flatMap(header -> Stream.of(header.getName(), header.getValue()))
+            .toArray(String[]::new);
+    }
+
+    /**
+     * Sends a POST request and completes with the response body once the status code is validated.
+     *
+     * @param path       The path template relative to the base path.
+     * @param body       The JSON request body.
+     * @param status     The expected HTTP status code.
+     * @param pathParams The values substituted into the path template, in order.
+     * @return A future completing with the response body
+     */
+    public CompletableFuture<byte[]> post(String path, byte[] body, HttpStatus status, Object... pathParams) {
+        return send(request(path, pathParams)
+            .POST(HttpRequest.BodyPublishers.ofByteArray(body))
+            .build(), path, body.length, status);
+    }
+
+    /**
+     * Sends a PUT request and completes with the response body once the status code is validated.
+     *
+     * @param path       The path template relative to the base path.
+     * @param body       The JSON request body.
+     * @param status     The expected HTTP status code.
+     * @param pathParams The values substituted into the path template, in order.
+     * @return A future completing with the response body
+     */
+    public CompletableFuture<byte[]> put(String path, byte[] body, HttpStatus status, Object... pathParams) {
+        return send(request(path, pathParams)
+            .PUT(HttpRequest.BodyPublishers.ofByteArray(body))
+            .build(), path, body.length, status);
+    }
+
+    /**
+     * Sends a GET request and completes with the response body once the status code is validated.
+     *
+     * @param path       The path template relative to the base path.
+     * @param status     The expected HTTP status code.
+     * @param pathParams The values substituted into the path template, in order.
+     * @return A future completing with the response body
+     */
+    public CompletableFuture<byte[]> get(String path, HttpStatus status, Object... pathParams) {
+        return send(request(path, pathParams).GET().build(), path, 0, status);
+    }
+
+    /**
+     * Sends a GET request and completes with the unread response body once the status code is validated.
+     * The body is read from the connection only as its subscriber requests it, so a slow consumer
+     * applies backpressure down to the socket. A body with an unexpected status is discarded.
+     *
+     * @param path       The path template relative to the base path.
+     * @param status     The expected HTTP status code.
+     * @param pathParams The values substituted into the path template, in order.
+     * @return A future completing with a publisher of the response body chunks
+     */
+    public CompletableFuture<Flow.Publisher<List<ByteBuffer>>> stream(String path, HttpStatus status,
+                                                                     Object... pathParams) {
+        HttpRequest request = request(path, pathParams).GET().build();
+        long start = System.nanoTime();
+        return client.sendAsync(request, HttpResponse.BodyHandlers.ofPublisher())
+            .thenApply(response -> {
+                metrics.get().recordCall(endpoint, request.method(), path, response.statusCode(),
+                    System.nanoTime() - start, 0, response.headers().firstValueAsLong("Content-Length").orElse(0));
+                if (response.statusCode() != status.getCode()) {
+                    response.body().subscribe(DISCARD);
+                    throw new AssertionError(String.format("Expected status code <%d> but was <%d>.",
+                        status.getCode(), response.statusCode()));
+                }
+                return response.body();
+            });
+    }
+
+    private HttpRequest.Builder request(String path, Object... pathParams) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + expand(path, pathParams)))
+            .header("Content-Type", contentType)
+            .header("Accept", "application/json");
+        if (headers.length > 0) {
+            builder.headers(headers);
+        }
+        return builder;
+    }
+
+    private CompletableFuture<byte[]> send(HttpRequest request, String path, long bytesSent, HttpStatus status) {
+        long start = System.nanoTime();
+        return client.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray())
+            .thenApply(response -> {
+                metrics.get().recordCall(endpoint, request.method(), path, response.statusCode(),
+                    System.nanoTime() - start, bytesSent, response.body().length);
+                if (response.statusCode() != status.getCode()) {
+                    throw new AssertionError(String.format("Expected status code <%d> but was <%d>.",
+                        status.getCode(), response.statusCode()));
+                }
+                return response.body();
+            });
+    }
+
+    private static String expand(String path, Object... pathParams) {
+        Matcher matcher = PATH_PARAM.matcher(path);
+        StringBuilder expanded = new StringBuilder();
+        int index = 0;
+        while (matcher.find()) {
+            String value = URLEncoder.encode(String.valueOf(pathParams[index++]), StandardCharsets.UTF_8);
+            matcher.appendReplacement(expanded, Matcher.quoteReplacement(value));
+        }
+        matcher.appendTail(expanded);
+        return expanded.toString();
+    }
+}
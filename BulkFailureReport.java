@@ -0,0 +1,45 @@
+package com.softserve.taf.services.common;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * This class reports every item that failed in a bulk endpoint operation.
+ * It is an AssertionError so that it fails a test the same way a single status-code check does.
+ * @since 18Oct2026
+ */
+public class BulkFailureReport extends AssertionError {
+
+    private static final long serialVersionUID = 1L;
+
+    private final transient Map<Object, Throwable> failures;
+
+    /**
+     * Constructs a new BulkFailureReport for the given per-item failures.
+     *
+     * @param total    The number of items in the bulk operation.
+     * @param failures The failures keyed by item.
+     */
+    public BulkFailureReport(int total, Map<?, Throwable> failures) {
+        super(describe(total, failures));
+        this.failures = Collections.unmodifiableMap(failures);
+        failures.values().forEach(this::addSuppressed);
+    }
+
+    /**
+     * Returns the failures keyed by item.
+     *
+     * @return An unmodifiable map of item key to failure
+     */
+    public Map<Object, Throwable> getFailures() {
+        return failures;
+    }
+
+    private static String describe(int total, Map<?, Throwable> failures) {
+        StringBuilder message = new StringBuilder()
+            .append(failures.size()).append(" of ").append(total).append(" items failed:");
+        failures.forEach((key, failure) -> message.append(System.lineSeparator())
+            .append("  [").append(key).append("] ").append(failure.getMessage()));
+        return message.toString();
+    }
+}
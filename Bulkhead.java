@@ -0,0 +1,106 @@
+package com.softserve.taf.services.common;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * This class limits the number of calls an endpoint class has in flight.
+ * Every endpoint class gets its own permits, so a slow endpoint exhausts only its own bulkhead
+ * and calls to other endpoints keep their threads.
+ * @since 18Oct2026
+ */
+public class Bulkhead {
+
+    private static final Bulkhead UNLIMITED = new Bulkhead("unlimited", Integer.MAX_VALUE, Duration.ZERO);
+    private static final ConcurrentMap<String, Bulkhead> BY_ENDPOINT = new ConcurrentHashMap<>();
+
+    private final String name;
+    private final int maxConcurrent;
+    private final long maxWaitNanos;
+    private final Semaphore permits;
+
+    /**
+     * Constructs a new Bulkhead.
+     *
+     * @param name          The name reported when a call is rejected.
+     * @param maxConcurrent The maximum number of calls in flight.
+     * @param maxWait       The time a call waits for a permit before it is rejected.
+     */
+    public Bulkhead(String name, int maxConcurrent, Duration maxWait) {
+        if (maxConcurrent <= 0) {
+            throw new IllegalArgumentException("Concurrency must be positive but was " + maxConcurrent);
+        }
+        this.name = name;
+        this.maxConcurrent = maxConcurrent;
+        this.maxWaitNanos = maxWait.toNanos();
+        this.permits = new Semaphore(maxConcurrent, true);
+    }
+
+    /**
+     * Returns a bulkhead that never limits calls.
+     *
+     * @return The unlimited Bulkhead
+     */
+    public static Bulkhead unlimited() {
+        return UNLIMITED;
+    }
+
+    /**
+     * Returns the bulkhead shared by every instance of the given endpoint class.
+     * Every call for the same class must pass the same limits, so that one semaphore guards the class.
+     *
+     * @param endpoint      The simple name of the endpoint class.
+     * @param maxConcurrent The maximum number of calls in flight for the class.
+     * @param maxWait       The time a call waits for a permit before it is rejected.
+     * @return The Bulkhead of the endpoint class
+     * @throws IllegalStateException If the class already has a bulkhead with different limits
+     */
+    public static Bulkhead forEndpoint(String endpoint, int maxConcurrent, Duration maxWait) {
+        Bulkhead bulkhead = BY_ENDPOINT.computeIfAbsent(endpoint, key -> new Bulkhead(key, maxConcurrent, maxWait));
+        if (bulkhead.maxConcurrent != maxConcurrent || bulkhead.maxWaitNanos != maxWait.toNanos()) {
+            throw new IllegalStateException("Bulkhead " + endpoint + " already allows " + bulkhead.maxConcurrent
+                + " calls waiting " + Duration.ofNanos(bulkhead.maxWaitNanos) + " but " + maxConcurrent
+                + " calls waiting " + maxWait + " were requested");
+        }
+        return bulkhead;
+    }
+
+    /**
+     * Runs the call while holding a permit.
+     *
+     * @param call The call to run.
+     * @return The result of the call
+     * @throws CallRejectedException If no permit became free within the maximum wait
+     */
+    public <T> T execute(Supplier<T> call) {
+        if (this == UNLIMITED) {
+            return call.get();
+        }
+        try {
+            if (!permits.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS)) {
+                throw new CallRejectedException("Bulkhead " + name + " is full with " + maxConcurrent + " calls");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a bulkhead permit", e);
+        }
+        try {
+            return call.get();
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * Returns the number of calls currently in flight.
+     *
+     * @return The used permits
+     */
+    public int getActiveCount() {
+        return this == UNLIMITED ? 0 : maxConcurrent - permits.availablePermits();
+    }
+}
@@ -0,0 +1,20 @@
+package com.softserve.taf.services.common;
+
+/**
+ * This class signals that an endpoint call was not sent because its bulkhead was full or its circuit was open.
+ * Failing fast keeps a degraded endpoint from tying up the threads of unrelated endpoints.
+ * @since 18Oct2026
+ */
+public class CallRejectedException extends IllegalStateException {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Constructs a new CallRejectedException.
+     *
+     * @param message The reason the call was rejected.
+     */
+    public CallRejectedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,211 @@
+package com.softserve.taf.services.common;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This class breaks the time of one endpoint call down into its phases.
+ * Connect covers leasing or opening a connection, TTFB runs until the response headers arrive,
+ * download until the body has been read, followed by status validation and DTO binding.
+ * The timing of the last call is kept per thread, because REST-assured runs each call on the calling thread.
+ * @since 18Oct2026
+ */
+public class CallTiming {
+
+    private static final ThreadLocal<CallTiming> CURRENT = new ThreadLocal<>();
+
+    private final String endpoint;
+    private final String method;
+    private final String path;
+    private final long startedAt;
+    private long connectedAt;
+    private long headersReceivedAt;
+    private long completedAt;
+    private int status;
+    private long validateNanos;
+    private long deserializeNanos;
+
+    private CallTiming(String endpoint, String method, String path) {
+        this.endpoint = endpoint;
+        this.method = method;
+        this.path = path;
+        this.startedAt = System.nanoTime();
+    }
+
+    /**
+     * Starts timing a new call on the current thread.
+     *
+     * @param endpoint The simple name of the endpoint class.
+     * @param method   The HTTP method.
+     * @param path     The path template.
+     * @return The new CallTiming
+     */
+    public static CallTiming begin(String endpoint, String method, String path) {
+        CallTiming timing = new CallTiming(endpoint, method, path);
+        CURRENT.set(timing);
+        return timing;
+    }
+
+    /**
+     * Returns the timing of the last call made on the current thread.
+     *
+     * @return The current CallTiming, or null if no call was timed on this thread
+     */
+    public static CallTiming current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Marks the moment the request is handed to an open connection.
+     */
+    public static void markConnected() {
+        CallTiming timing = CURRENT.get();
+        if (timing != null && timing.connectedAt == 0) {
+            timing.connectedAt = System.nanoTime();
+        }
+    }
+
+    /**
+     * Marks the moment the response headers were received.
+     */
+    public static void markHeadersReceived() {
+        CallTiming timing = CURRENT.get();
+        if (timing != null && timing.headersReceivedAt == 0) {
+            timing.headersReceivedAt = System.nanoTime();
+        }
+    }
+
+    /**
+     * Records the status of the response once the exchange returned to the caller.
+     * REST-assured reads the body lazily, so the download ends only when markBodyRead follows.
+     *
+     * @param status The HTTP status code of the response.
+     */
+    public void complete(int status) {
+        this.completedAt = System.nanoTime();
+        this.status = status;
+    }
+
+    /**
+     * Marks the moment the response body has been read.
+     */
+    public void markBodyRead() {
+        this.completedAt = System.nanoTime();
+    }
+
+    /**
+     * Records the time spent validating the response.
+     *
+     * @param nanos The validation time.
+     */
+    public void recordValidation(long nanos) {
+        this.validateNanos = nanos;
+    }
+
+    /**
+     * Records the time spent binding the response body to DTOs.
+     *
+     * @param nanos The deserialization time.
+     */
+    public void recordDeserialization(long nanos) {
+        this.deserializeNanos = nanos;
+    }
+
+    /**
+     * Returns the simple name of the endpoint class.
+     *
+     * @return The endpoint tag
+     */
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    /**
+     * Returns the HTTP method.
+     *
+     * @return The HTTP method
+     */
+    public String getMethod() {
+        return method;
+    }
+
+    /**
+     * Returns the path template.
+     *
+     * @return The path template
+     */
+    public String getPath() {
+        return path;
+    }
+
+    /**
+     * Returns the HTTP status code of the response.
+     *
+     * @return The status code, or 0 while the call is in progress
+     */
+    public int getStatus() {
+        return status;
+    }
+
+    /**
+     * Returns the time until the request was written to a connection, or 0 when it was not observed.
+     *
+     * @return The connect time, in nanoseconds
+     */
+    public long getConnectNanos() {
+        return connectedAt == 0 ? 0 : connectedAt - startedAt;
+    }
+
+    /**
+     * Returns the time from writing the request until the response headers arrived.
+     * Without connection-level marks this covers the whole exchange.
+     *
+     * @return The time to first byte, in nanoseconds
+     */
+    public long getTtfbNanos() {
+        long from = connectedAt == 0 ? startedAt : connectedAt;
+        long to = headersReceivedAt == 0 ? completedAt : headersReceivedAt;
+        return Math.max(0, to - from);
+    }
+
+    /**
+     * Returns the time spent reading the response body after the headers arrived.
+     *
+     * @return The download time, in nanoseconds
+     */
+    public long getDownloadNanos() {
+        return headersReceivedAt == 0 ? 0 : Math.max(0, completedAt - headersReceivedAt);
+    }
+
+    /**
+     * Returns the time spent validating the response.
+     *
+     * @return The validation time, in nanoseconds
+     */
+    public long getValidateNanos() {
+        return validateNanos;
+    }
+
+    /**
+     * Returns the time spent binding the body to DTOs.
+     *
+     * @return The deserialization time, in nanoseconds, or 0 if the body was not bound
+     */
+    public long getDeserializeNanos() {
+        return deserializeNanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s %s %s -> %d: connect=%dus ttfb=%dus download=%dus validate=%dus deserialize=%dus",
+            endpoint, method, path, status,
+            micros(getConnectNanos()),
+            micros(getTtfbNanos()),
+            micros(getDownloadNanos()),
+            micros(validateNanos),
+            micros(deserializeNanos));
+    }
+
+    private static long micros(long nanos) {
+        return TimeUnit.NANOSECONDS.toMicros(nanos);
+    }
+}
@@ -0,0 +1,37 @@
+package com.softserve.taf.services.common;
+
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+/**
+ * This class is a REST-assured filter that starts and completes the CallTiming of every request.
+ * Connect and TTFB marks are set by the interceptors of the pooled client in ConnectionPoolManager; the body
+ * is read after the filters returned, so the endpoint marks the end of the download when it buffers the body.
+ * @since 18Oct2026
+ */
+public class CallTimingFilter implements Filter {
+
+    private final String endpoint;
+
+    /**
+     * Constructs a new CallTimingFilter for the given endpoint.
+     *
+     * @param endpoint The simple name of the endpoint class.
+     */
+    public CallTimingFilter(String endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        CallTiming timing = CallTiming.begin(endpoint, requestSpec.getMethod(), requestSpec.getUserDefinedPath());
+        Response response = ctx.next(requestSpec, responseSpec);
+        timing.complete(response.getStatusCode());
+        return response;
+    }
+}
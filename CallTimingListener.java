@@ -0,0 +1,24 @@
+package com.softserve.taf.services.common;
+
+/**
+ * This interface is notified with the phase breakdown of endpoint calls.
+ * @since 18Oct2026
+ */
+public interface CallTimingListener {
+
+    /**
+     * Called once the response has been received and its status code validated.
+     *
+     * @param timing The timing of the call, with network and validation phases set.
+     */
+    void onResponse(CallTiming timing);
+
+    /**
+     * Called after the response body has been bound to DTOs.
+     * Calls that return a ValidatableResponse never reach this phase.
+     *
+     * @param timing The timing of the call, with every phase set.
+     */
+    default void onDeserialized(CallTiming timing) {
+    }
+}
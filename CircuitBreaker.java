@@ -0,0 +1,254 @@
+package com.softserve.taf.services.common;
+
+import io.restassured.response.ValidatableResponse;
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * This class stops sending requests to an endpoint once too many recent calls failed or were slow.
+ * Outcomes of the last calls are kept in a fixed-size window. When the failure or slow-call rate of a full
+ * window crosses its threshold the circuit opens and calls are rejected without being sent; after the open
+ * duration a few probe calls are let through half-open, closing the circuit when they all succeed.
+ * A call fails when it throws or its status is 5xx. Every state change is reported to EndpointMetrics.
+ * @since 18Oct2026
+ */
+public class CircuitBreaker {
+
+    /**
+     * The states of a circuit breaker.
+     */
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private static final CircuitBreaker DISABLED = builder("disabled").build();
+
+    private final String name;
+    private final int windowSize;
+    private final double failureRateThreshold;
+    private final double slowCallRateThreshold;
+    private final long slowCallNanos;
+    private final long openNanos;
+    private final int halfOpenCalls;
+    private final boolean[] failed;
+    private final boolean[] slow;
+
+    private State state = State.CLOSED;
+    private int recorded;
+    private int next;
+    private int failures;
+    private int slowCalls;
+    private long openedAt;
+    private int probesStarted;
+    private int probesSucceeded;
+    private long generation;
+
+    private CircuitBreaker(Builder builder) {
+        this.name = builder.name;
+        this.windowSize = builder.windowSize;
+        this.failureRateThreshold = builder.failureRateThreshold;
+        this.slowCallRateThreshold = builder.slowCallRateThreshold;
+        this.slowCallNanos = builder.slowCallDuration.toNanos();
+        this.openNanos = builder.openDuration.toNanos();
+        this.halfOpenCalls = builder.halfOpenCalls;
+        this.failed = new boolean[windowSize];
+        this.slow = new boolean[windowSize];
+    }
+
+    /**
+     * Returns a circuit breaker that never opens.
+     *
+     * @return The disabled CircuitBreaker
+     */
+    public static CircuitBreaker disabled() {
+        return DISABLED;
+    }
+
+    /**
+     * Returns a builder for a circuit breaker with the given name.
+     *
+     * @param name The name reported in metrics and rejections, usually the endpoint class.
+     * @return A new Builder
+     */
+    public static Builder builder(String name) {
+        return new Builder(name);
+    }
+
+    /**
+     * Sends the call unless the circuit is open, and records its outcome.
+     *
+     * @param call    The call sending the request.
+     * @param metrics The registry receiving state transitions.
+     * @return The response of the call
+     * @throws CallRejectedException If the circuit is open
+     */
+    public ValidatableResponse execute(Supplier<ValidatableResponse> call, EndpointMetrics metrics) {
+        if (this == DISABLED) {
+            return call.get();
+        }
+        long admittedIn = acquire(metrics);
+        long start = System.nanoTime();
+        boolean success = false;
+        try {
+            ValidatableResponse response = call.get();
+            success = response.extract().statusCode() < 500;
+            return response;
+        } finally {
+            record(admittedIn, success, System.nanoTime() - start, metrics);
+        }
+    }
+
+    /**
+     * Returns the current state; an open circuit turns half-open on the first call after its open duration.
+     *
+     * @return The State of the circuit
+     */
+    public synchronized State getState() {
+        return state;
+    }
+
+    private synchronized long acquire(EndpointMetrics metrics) {
+        if (state == State.OPEN && System.nanoTime() - openedAt >= openNanos) {
+            transition(State.HALF_OPEN, metrics);
+        }
+        if (state == State.OPEN || state == State.HALF_OPEN && probesStarted >= halfOpenCalls) {
+            throw new CallRejectedException("Circuit " + name + " is " + state);
+        }
+        if (state == State.HALF_OPEN) {
+            probesStarted++;
+        }
+        return generation;
+    }
+
+    private synchronized void record(long admittedIn, boolean success, long nanos, EndpointMetrics metrics) {
+        // A call admitted before the last transition says nothing about the current state; in particular a
+        // slow call admitted while closed must not count as a half-open probe.
+        if (admittedIn != generation) {
+            return;
+        }
+        if (state == State.HALF_OPEN) {
+            if (!success) {
+                transition(State.OPEN, metrics);
+            } else if (++probesSucceeded >= halfOpenCalls) {
+                transition(State.CLOSED, metrics);
+            }
+            return;
+        }
+        if (state == State.OPEN) {
+            return;
+        }
+        if (recorded == windowSize) {
+            failures -= failed[next] ? 1 : 0;
+            slowCalls -= slow[next] ? 1 : 0;
+        } else {
+            recorded++;
+        }
+        failed[next] = !success;
+        slow[next] = nanos >= slowCallNanos;
+        failures += failed[next] ? 1 : 0;
+        slowCalls += slow[next] ? 1 : 0;
+        next = (next + 1) % windowSize;
+        if (recorded == windowSize
+            && (failures >= failureRateThreshold * windowSize || slowCalls >= slowCallRateThreshold * windowSize)) {
+            transition(State.OPEN, metrics);
+        }
+    }
+
+    private void transition(State to, EndpointMetrics metrics) {
+        State from = state;
+        state = to;
+        generation++;
+        probesStarted = 0;
+        probesSucceeded = 0;
+        if (to == State.OPEN) {
+            openedAt = System.nanoTime();
+        } else if (to == State.CLOSED) {
+            recorded = 0;
+            next = 0;
+            failures = 0;
+            slowCalls = 0;
+        }
+        metrics.recordCircuitTransition(name, from.name(), to.name());
+    }
+
+    /**
+     * This class builds a CircuitBreaker.
+     */
+    public static final class Builder {
+
+        private final String name;
+        private int windowSize = 20;
+        private double failureRateThreshold = 0.5;
+        private double slowCallRateThreshold = 1.0;
+        private Duration slowCallDuration = Duration.ofSeconds(5);
+        private Duration openDuration = Duration.ofSeconds(10);
+        private int halfOpenCalls = 3;
+
+        private Builder(String name) {
+            this.name = name;
+        }
+
+        /**
+         * Sets the number of most recent calls the rates are computed over.
+         *
+         * @param windowSize The window size; 20 by default.
+         * @return This Builder
+         */
+        public Builder windowSize(int windowSize) {
+            if (windowSize <= 0) {
+                throw new IllegalArgumentException("Window size must be positive but was " + windowSize);
+            }
+            this.windowSize = windowSize;
+            return this;
+        }
+
+        /**
+         * Sets the share of failed calls in the window that opens the circuit.
+         *
+         * @param rate The failure rate between 0 and 1; 0.5 by default.
+         * @return This Builder
+         */
+        public Builder failureRateThreshold(double rate) {
+            this.failureRateThreshold = rate;
+            return this;
+        }
+
+        /**
+         * Sets when a call counts as slow and the share of slow calls in the window that opens the circuit.
+         *
+         * @param duration The latency from which a call is slow; 5 s by default.
+         * @param rate     The slow-call rate between 0 and 1; 1.0 by default.
+         * @return This Builder
+         */
+        public Builder slowCallThreshold(Duration duration, double rate) {
+            this.slowCallDuration = duration;
+            this.slowCallRateThreshold = rate;
+            return this;
+        }
+
+        /**
+         * Sets how long the circuit stays open and how many probe calls are let through half-open.
+         *
+         * @param openDuration  The time calls are rejected after the circuit opened; 10 s by default.
+         * @param halfOpenCalls The number of probe calls that must all succeed to close it; 3 by default.
+         * @return This Builder
+         */
+        public Builder halfOpenAfter(Duration openDuration, int halfOpenCalls) {
+            if (halfOpenCalls <= 0) {
+                throw new IllegalArgumentException("Half-open calls must be positive but was " + halfOpenCalls);
+            }
+            this.openDuration = openDuration;
+            this.halfOpenCalls = halfOpenCalls;
+            return this;
+        }
+
+        /**
+         * Creates the CircuitBreaker.
+         *
+         * @return A new CircuitBreaker
+         */
+        public CircuitBreaker build() {
+            return new CircuitBreaker(this);
+        }
+    }
+}
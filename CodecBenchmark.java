@@ -0,0 +1,125 @@
+package com.softserve.taf.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.restassured.RestAssured;
+import io.restassured.builder.RequestSpecBuilder;
+import io.restassured.http.ContentType;
+import io.restassured.specification.RequestSpecification;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import com.softserve.taf.models.placeholder.comment.CommentDto;
+import com.softserve.taf.services.common.ConnectionPoolManager;
+import com.softserve.taf.services.common.JacksonCodec;
+import com.softserve.taf.services.common.JsonCodec;
+import com.softserve.taf.services.placeholder.endpoints.CommentEndpoint;
+import com.softserve.taf.services.placeholder.stub.PlaceholderStubServer;
+
+/**
+ * This class compares binding CommentDto through REST-assured's object mapper with a pre-bound codec.
+ * The bind* benchmarks isolate JSON binding on a captured body; the getById and getAll pairs
+ * include the HTTP exchange against the stub server over the same pooled connections, so only the binding
+ * differs. Run with the GC profiler for allocation per call.
+ * @since 18Oct2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class CodecBenchmark {
+
+    @Param({"500"})
+    public int datasetSize;
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final JsonCodec<CommentDto> codec = new JacksonCodec<>(CommentDto.class);
+    private PlaceholderStubServer server;
+    private RequestSpecification specification;
+    private RequestSpecification pooledSpecification;
+    private CommentEndpoint comments;
+    private byte[] singleBody;
+    private byte[] listBody;
+
+    @Setup
+    public void setUp() {
+        server = new PlaceholderStubServer(datasetSize);
+        specification = new RequestSpecBuilder()
+            .setBaseUri(server.getBaseUri())
+            .setContentType(ContentType.JSON)
+            .build();
+        pooledSpecification = ConnectionPoolManager.shared().attach(specification);
+        comments = new CommentEndpoint(specification).withCodec(codec);
+        singleBody = RestAssured.given().spec(pooledSpecification).get("/comments/1").asByteArray();
+        listBody = RestAssured.given().spec(pooledSpecification).get("/comments").asByteArray();
+    }
+
+    @TearDown
+    public void tearDown() {
+        server.close();
+    }
+
+    @Benchmark
+    public CommentDto bindSingleWithMapper() throws IOException {
+        return mapper.readValue(singleBody, CommentDto.class);
+    }
+
+    @Benchmark
+    public CommentDto bindSingleWithCodec() {
+        return codec.read(singleBody);
+    }
+
+    @Benchmark
+    public List<CommentDto> bindListWithMapper() throws IOException {
+        return List.of(mapper.readValue(listBody, CommentDto[].class));
+    }
+
+    @Benchmark
+    public List<CommentDto> bindListWithCodec() {
+        return codec.readList(listBody);
+    }
+
+    @Benchmark
+    public CommentDto getByIdWithRestAssuredMapper() {
+        return RestAssured.given().spec(pooledSpecification).get("/comments/{commentID}", 1).as(CommentDto.class);
+    }
+
+    @Benchmark
+    public CommentDto getByIdWithCodec() {
+        return comments.getById(1);
+    }
+
+    @Benchmark
+    public List<CommentDto> getAllWithRestAssuredMapper() {
+        return List.of(RestAssured.given().spec(pooledSpecification).get("/comments").as(CommentDto[].class));
+    }
+
+    @Benchmark
+    public List<CommentDto> getAllWithCodec() {
+        return comments.getAll();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(CodecBenchmark.class.getSimpleName())
+            .addProfiler(GCProfiler.class)
+            .build()).run();
+    }
+}
@@ -0,0 +1,165 @@
+package com.softserve.taf.services.placeholder.endpoints;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import com.softserve.taf.models.placeholder.comment.CommentDto;
+import com.softserve.taf.models.placeholder.user.UserDto;
+
+/**
+ * This class joins comments to their author users on the client side.
+ * The distinct author keys of a batch are resolved in one UserEndpoint.getByIds pass, which runs on the
+ * user endpoint's executor. Resolved users are kept by this join, so successive joins never fetch a user twice;
+ * a join running concurrently with another waits for the authors the other join is already fetching.
+ * @since 18Oct2026
+ */
+public class CommentAuthorJoin {
+
+    private static final Logger LOGGER = LogManager.getLogger();
+
+    private final UserEndpoint users;
+    private final Function<CommentDto, String> authorKey;
+    private final Map<String, CompletableFuture<UserDto>> resolved = new ConcurrentHashMap<>();
+
+    /**
+     * Constructs a new CommentAuthorJoin.
+     *
+     * @param users     The UserEndpoint resolving author keys.
+     * @param authorKey The function returning the user ID of a comment's author, or null when it has none.
+     */
+    public CommentAuthorJoin(UserEndpoint users, Function<CommentDto, String> authorKey) {
+        this.users = users;
+        this.authorKey = authorKey;
+    }
+
+    /**
+     * Fetches all comments and joins each one to its author.
+     *
+     * @param comments The CommentEndpoint supplying the comments.
+     * @return The joined records in the order returned by getAll
+     */
+    public List<CommentWithAuthor> joinAll(CommentEndpoint comments) {
+        return join(comments.getAll());
+    }
+
+    /**
+     * Joins each of the given comments to its author, fetching only authors this join has not resolved yet.
+     *
+     * @param comments The comments to enrich.
+     * @return The joined records in the order of the given comments
+     */
+    public List<CommentWithAuthor> join(List<CommentDto> comments) {
+        Map<String, CompletableFuture<UserDto>> authors = new HashMap<>();
+        Map<String, CompletableFuture<UserDto>> claimed = new LinkedHashMap<>();
+        for (CommentDto comment : comments) {
+            String key = authorKey.apply(comment);
+            if (key == null || authors.containsKey(key)) {
+                continue;
+            }
+            CompletableFuture<UserDto> author = resolved.get(key);
+            if (author == null) {
+                CompletableFuture<UserDto> own = new CompletableFuture<>();
+                author = resolved.putIfAbsent(key, own);
+                if (author == null) {
+                    author = own;
+                    claimed.put(key, own);
+                }
+            }
+            authors.put(key, author);
+        }
+        if (!claimed.isEmpty()) {
+            resolve(claimed, comments.size());
+        }
+        List<CommentWithAuthor> joined = new ArrayList<>(comments.size());
+        for (CommentDto comment : comments) {
+            String key = authorKey.apply(comment);
+            joined.add(new CommentWithAuthor(comment, key == null ? null : await(authors.get(key))));
+        }
+        return joined;
+    }
+
+    /**
+     * Returns the number of distinct users fetched by this join so far.
+     *
+     * @return The resolved user count
+     */
+    public int getResolvedCount() {
+        return (int) resolved.values().stream()
+            .filter(user -> user.isDone() && !user.isCompletedExceptionally())
+            .count();
+    }
+
+    private void resolve(Map<String, CompletableFuture<UserDto>> claimed, int commentCount) {
+        LOGGER.info("Resolve [{}] authors for [{}] comments", claimed.size(), commentCount);
+        try {
+            Map<String, UserDto> fetched = users.getByIds(claimed.keySet());
+            claimed.forEach((key, user) -> user.complete(fetched.get(key)));
+        } catch (RuntimeException | Error e) {
+            claimed.forEach((key, user) -> {
+                resolved.remove(key, user);
+                user.completeExceptionally(e);
+            });
+            throw e;
+        }
+    }
+
+    private static UserDto await(CompletableFuture<UserDto> user) {
+        try {
+            return user.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * This class pairs a comment with its author.
+     */
+    public static final class CommentWithAuthor {
+
+        private final CommentDto comment;
+        private final UserDto author;
+
+        private CommentWithAuthor(CommentDto comment, UserDto author) {
+            this.comment = comment;
+            this.author = author;
+        }
+
+        /**
+         * Returns the comment.
+         *
+         * @return The CommentDto
+         */
+        public CommentDto getComment() {
+            return comment;
+        }
+
+        /**
+         * Returns the author of the comment.
+         *
+         * @return The author UserDto, or null when the comment has no author key
+         */
+        public UserDto getAuthor() {
+            return author;
+        }
+
+        @Override
+        public String toString() {
+            return "CommentWithAuthor[comment=" + comment + ", author=" + author + "]";
+        }
+    }
+}
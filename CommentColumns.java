@@ -0,0 +1,273 @@
+package com.softserve.taf.services.placeholder.endpoints;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+import java.util.function.IntPredicate;
+import com.softserve.taf.services.common.OffHeapIntColumn;
+import com.softserve.taf.services.common.OffHeapStringDictionary;
+
+/**
+ * This class holds a list of comments column by column in off-heap memory.
+ * Ids are primitive int columns and strings are dictionary-encoded, so a large result set costs a few
+ * objects on the heap instead of one CommentDto and five field values per comment. Rows are read through
+ * a reusable {@link Row} flyweight that decodes a string only when its getter is called.
+ * @since 18Oct2026
+ */
+public class CommentColumns {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final OffHeapIntColumn postIds;
+    private final OffHeapIntColumn ids;
+    private final OffHeapIntColumn names;
+    private final OffHeapIntColumn emails;
+    private final OffHeapIntColumn bodies;
+    private final OffHeapStringDictionary dictionary;
+
+    private CommentColumns(int initialRows) {
+        this.postIds = new OffHeapIntColumn(initialRows);
+        this.ids = new OffHeapIntColumn(initialRows);
+        this.names = new OffHeapIntColumn(initialRows);
+        this.emails = new OffHeapIntColumn(initialRows);
+        this.bodies = new OffHeapIntColumn(initialRows);
+        this.dictionary = new OffHeapStringDictionary(initialRows * 64);
+    }
+
+    /**
+     * Reads a JSON array of comments straight into columns, without binding any CommentDto.
+     * The stream is parsed incrementally, so the body is never held on the heap as a whole.
+     * Unknown fields are skipped; a missing id is stored as 0 and a missing string as null.
+     *
+     * @param json The input stream containing a UTF-8 encoded JSON array of comments; it is closed afterwards.
+     * @return The CommentColumns holding every comment of the array
+     */
+    public static CommentColumns read(InputStream json) {
+        CommentColumns columns = new CommentColumns(1024);
+        try (JsonParser parser = JSON_FACTORY.createParser(json)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IllegalStateException("Expected JSON array but was " + parser.currentToken());
+            }
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                columns.appendRow(parser);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        columns.dictionary.freeze();
+        return columns;
+    }
+
+    private void appendRow(JsonParser parser) throws IOException {
+        int postId = 0;
+        int id = 0;
+        int name = OffHeapStringDictionary.ABSENT;
+        int email = OffHeapStringDictionary.ABSENT;
+        int body = OffHeapStringDictionary.ABSENT;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            switch (field) {
+                case "postId":
+                    postId = parser.getValueAsInt();
+                    break;
+                case "id":
+                    id = parser.getValueAsInt();
+                    break;
+                case "name":
+                    name = encode(parser, value);
+                    break;
+                case "email":
+                    email = encode(parser, value);
+                    break;
+                case "body":
+                    body = encode(parser, value);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        postIds.append(postId);
+        ids.append(id);
+        names.append(name);
+        emails.append(email);
+        bodies.append(body);
+    }
+
+    private int encode(JsonParser parser, JsonToken value) throws IOException {
+        return value == JsonToken.VALUE_NULL ? OffHeapStringDictionary.ABSENT : dictionary.encode(parser.getText());
+    }
+
+    /**
+     * Returns the number of comments.
+     *
+     * @return The number of rows
+     */
+    public int size() {
+        return ids.size();
+    }
+
+    /**
+     * Returns the id of the comment at the given row without creating any object.
+     *
+     * @param row The 0-based row.
+     * @return The comment id
+     */
+    public int getId(int row) {
+        return ids.get(row);
+    }
+
+    /**
+     * Returns the post id of the comment at the given row without creating any object.
+     *
+     * @param row The 0-based row.
+     * @return The post id
+     */
+    public int getPostId(int row) {
+        return postIds.get(row);
+    }
+
+    /**
+     * Returns a flyweight positioned at the given row.
+     * The flyweight can be moved with {@link Row#moveTo(int)} to read other rows without allocating.
+     *
+     * @param row The 0-based row.
+     * @return A Row view over the columns
+     */
+    public Row row(int row) {
+        return new Row().moveTo(row);
+    }
+
+    /**
+     * Visits every row in order through a single reused flyweight.
+     * The flyweight must not be kept after the consumer returns.
+     *
+     * @param action The action invoked for each row.
+     */
+    public void forEach(Consumer<Row> action) {
+        Row cursor = new Row();
+        for (int row = 0; row < size(); row++) {
+            action.accept(cursor.moveTo(row));
+        }
+    }
+
+    /**
+     * Counts the rows whose email equals the given value by comparing dictionary codes, without decoding.
+     *
+     * @param email The email to match.
+     * @return The number of comments with that email
+     */
+    public int countByEmail(String email) {
+        int code = dictionary.codeOf(email);
+        return code == OffHeapStringDictionary.ABSENT ? 0 : count(row -> emails.get(row) == code);
+    }
+
+    /**
+     * Counts the rows matching a predicate over row numbers; use it with the primitive getters.
+     *
+     * @param predicate The predicate receiving each row number.
+     * @return The number of matching rows
+     */
+    public int count(IntPredicate predicate) {
+        int matches = 0;
+        for (int row = 0; row < size(); row++) {
+            if (predicate.test(row)) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the number of off-heap bytes reserved by all columns and the dictionary.
+     *
+     * @return The reserved capacity in bytes
+     */
+    public long offHeapBytes() {
+        return postIds.offHeapBytes() + ids.offHeapBytes() + names.offHeapBytes() + emails.offHeapBytes()
+            + bodies.offHeapBytes() + dictionary.offHeapBytes();
+    }
+
+    private String decode(int code) {
+        return code == OffHeapStringDictionary.ABSENT ? null : dictionary.decode(code);
+    }
+
+    /**
+     * This class is a movable read-only view of one comment row.
+     */
+    public final class Row {
+
+        private int row;
+
+        private Row() {
+        }
+
+        /**
+         * Moves this view to another row.
+         *
+         * @param row The 0-based row.
+         * @return This Row
+         */
+        public Row moveTo(int row) {
+            if (row < 0 || row >= size()) {
+                throw new IndexOutOfBoundsException("Row " + row + " of " + size());
+            }
+            this.row = row;
+            return this;
+        }
+
+        /**
+         * Returns the post id of the current row.
+         *
+         * @return The post id
+         */
+        public int getPostId() {
+            return postIds.get(row);
+        }
+
+        /**
+         * Returns the id of the current row.
+         *
+         * @return The comment id
+         */
+        public int getId() {
+            return ids.get(row);
+        }
+
+        /**
+         * Decodes the name of the current row.
+         *
+         * @return The name, or null when it was absent
+         */
+        public String getName() {
+            return decode(names.get(row));
+        }
+
+        /**
+         * Decodes the email of the current row.
+         *
+         * @return The email, or null when it was absent
+         */
+        public String getEmail() {
+            return decode(emails.get(row));
+        }
+
+        /**
+         * Decodes the body of the current row.
+         *
+         * @return The body, or null when it was absent
+         */
+        public String getBody() {
+            return decode(bodies.get(row));
+        }
+
+        @Override
+        public String toString() {
+            return "Comment[row=" + row + ", id=" + getId() + ", postId=" + getPostId() + "]";
+        }
+    }
+}
@@ -1,13 +1,60 @@
 package com.softserve.taf.services.placeholder.endpoints;
 
+import io.restassured.RestAssured;
+import io.restassured.response.Response;
 import io.restassured.response.ValidatableResponse;
 import io.restassured.specification.RequestSpecification;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import com.softserve.taf.models.enums.HttpStatus;
 import com.softserve.taf.models.placeholder.comment.CommentDto;
 import com.softserve.taf.services.common.AbstractWebEndpoint;
+import com.softserve.taf.services.common.AsyncWebClient;
+import com.softserve.taf.services.common.BulkFailureReport;
+import com.softserve.taf.services.common.Bulkhead;
+import com.softserve.taf.services.common.CallRejectedException;
+import com.softserve.taf.services.common.CallTiming;
+import com.softserve.taf.services.common.CallTimingFilter;
+import com.softserve.taf.services.common.CallTimingListener;
+import com.softserve.taf.services.common.CircuitBreaker;
+import com.softserve.taf.services.common.ConditionalCache;
+import com.softserve.taf.services.common.ConnectionPoolManager;
+import com.softserve.taf.services.common.EncodedBody;
+import com.softserve.taf.services.common.EndpointExecutor;
+import com.softserve.taf.services.common.EndpointMetrics;
+import com.softserve.taf.services.common.IndexedResult;
+import com.softserve.taf.services.common.JacksonCodec;
+import com.softserve.taf.services.common.JsonArrayPublisher;
+import com.softserve.taf.services.common.JsonCodec;
+import com.softserve.taf.services.common.LocalEndpointMetrics;
+import com.softserve.taf.services.common.MeteredInputStream;
+import com.softserve.taf.services.common.MetricsFilter;
+import com.softserve.taf.services.common.PagedIterator;
+import com.softserve.taf.services.common.RateLimiter;
+import com.softserve.taf.services.common.ResponseCache;
+import com.softserve.taf.services.common.RetryPolicy;
+import com.softserve.taf.services.common.SingleFlight;
+import com.softserve.taf.services.common.SinglePublisher;
 
 /**
  * This class represents the endpoint for managing comment-related operations.
@@ -16,9 +63,34 @@ import com.softserve.taf.services.common.AbstractWebEndpoint;
  */
 public class CommentEndpoint extends AbstractWebEndpoint {
 
+    /**
+     * The name of the secondary index on postId in results returned by getAllIndexed().
+     */
+    public static final String POST_ID_INDEX = "postId";
+
     private static final Logger LOGGER = LogManager.getLogger();
     private static final String COMMENTS_END = "/comments";
     private static final String COMMENTS_RESOURCE_END = "/comments/{commentID}";
+    private static final JsonCodec<CommentDto> DEFAULT_CODEC = new JacksonCodec<>(CommentDto.class);
+    private static final String ENDPOINT = CommentEndpoint.class.getSimpleName();
+
+    private final RequestSpecification streamingSpecification;
+    private AsyncWebClient asyncClient;
+    private EndpointExecutor executor = EndpointExecutor.shared();
+    private JsonCodec<CommentDto> codec = DEFAULT_CODEC;
+    private volatile EndpointMetrics metrics = LocalEndpointMetrics.shared();
+    private RetryPolicy retryPolicy = RetryPolicy.none();
+    private Bulkhead bulkhead = Bulkhead.unlimited();
+    private CircuitBreaker circuitBreaker = CircuitBreaker.disabled();
+    private RateLimiter rateLimiter = RateLimiter.unlimited();
+    private final Map<String, RateLimiter> pathRateLimiters = new ConcurrentHashMap<>();
+    private final List<CallTimingListener> timingListeners = new CopyOnWriteArrayList<>();
+    private ResponseCache<Integer, CommentDto> byIdCache = ResponseCache.disabled();
+    private ResponseCache<String, List<CommentDto>> listCache = ResponseCache.disabled();
+    private ConditionalCache<List<CommentDto>> conditionalAll = ConditionalCache.disabled();
+    private SingleFlight<Integer, Response> byIdResponses = SingleFlight.disabled();
+    private SingleFlight<Integer, CommentDto> byIdResults = SingleFlight.disabled();
+    private SingleFlight<String, List<CommentDto>> listResults = SingleFlight.disabled();
 
     /**
      * Constructs a new CommentEndpoint instance with the given specification.
@@ -27,7 +99,229 @@ public class CommentEndpoint extends AbstractWebEndpoint {
      * @author Ihor Nahirnyi
      */
     public CommentEndpoint(RequestSpecification specification) {
-        super(specification);
+        this(specification, ConnectionPoolManager.shared());
+    }
+
+    /**
+     * Constructs a new CommentEndpoint instance whose requests go through the given connection pool.
+     *
+     * @param specification The RequestSpecification used for making HTTP requests
+     * @param pool          The ConnectionPoolManager providing keep-alive connections
+     */
+    public CommentEndpoint(RequestSpecification specification, ConnectionPoolManager pool) {
+        super(pool.attach(specification));
+        this.streamingSpecification = RestAssured.given()
+            .spec(this.specification)
+            .filter(new CallTimingFilter(ENDPOINT));
+        this.specification.filter(new MetricsFilter(ENDPOINT, () -> metrics));
+        this.specification.filter(new CallTimingFilter(ENDPOINT));
+        this.asyncClient = new AsyncWebClient(specification, ENDPOINT, () -> metrics);
+    }
+
+    /**
+     * Sets the executor used for calls that span several comments.
+     * By default batch calls run concurrently on EndpointExecutor.shared(); pass EndpointExecutor.sameThread()
+     * to send them one after another on the calling thread.
+     *
+     * @param executor The EndpointExecutor running each single-comment call.
+     * @return This CommentEndpoint
+     */
+    public CommentEndpoint withExecutor(EndpointExecutor executor) {
+        this.executor = executor;
+        return this;
+    }
+
+    /**
+     * Sets the HTTP version used by the asynchronous and reactive calls of this endpoint.
+     * HTTP/2 multiplexes concurrent calls over one connection per host instead of one connection per call.
+     * Blocking calls keep going through REST-assured over HTTP/1.1.
+     *
+     * @param version The preferred HTTP version; HTTP/1.1 by default.
+     * @return This CommentEndpoint
+     */
+    public CommentEndpoint withHttpVersion(HttpClient.Version version) {
+        this.asyncClient = new AsyncWebClient(this.specification, ENDPOINT, () -> metrics, version);
+        return this;
+    }
+
+    /**
+     * Sets the codec binding CommentDto request and response bodies.
+     *
+     * @param codec The JsonCodec to use instead of the default pre-bound Jackson codec.
+     * @return This CommentEndpoint
+     */
+    public CommentEndpoint withCodec(JsonCodec<CommentDto> codec) {
+        this.codec = codec;
+        return this;
+    }
+
+    /**
+     * Sets the registry receiving latency, size, status and deserialization metrics of every call.
+     *
+     * @param metrics The EndpointMetrics registry; LocalEndpointMetrics.shared() by default.
+     * @return This CommentEndpoint
+     */
+    public CommentEndpoint withMetrics(EndpointMetrics metrics) {
+        this.metrics = metrics;
+        return this;
+    }
+
+    /**
+     * Sets the policy re-sending requests that failed with a transient status, such as 429 or 503.
+     * The status check of each method applies to the response of the last attempt.
+     *
+     * @param retryPolicy The RetryPolicy to apply; RetryPolicy.none() by default.
+     * @return This CommentEndpoint
+     */
+    public CommentEndpoint withRetryPolicy(RetryPolicy retryPolicy) {
+        this.retryPolicy = retryPolicy;
+        return this;
+    }
+
+    /**
+     * Limits the number of calls all CommentEndpoint instances have in flight together.
+     * Calls beyond the limit wait up to maxWait for a free permit and are then rejected with
+     * CallRejectedException, so a degraded service cannot hold the threads of other endpoints.
+     * Every CommentEndpoint instance must pass the same limits. Asynchronous and published calls hold no thread
+     * while waiting and are not limited by the bulkhead.
+     *
+     * @param maxConcurrent The maximum number of calls in flight for the endpoint class.
+     * @param maxWait       The time a call waits for a permit.
+     * @return This CommentEndpoint
+     * @throws IllegalStateException If another CommentEndpoint instance set different limits
+     */
+    public CommentEndpoint withBulkhead(int maxConcurrent, Duration maxWait) {
+        this.bulkhead = Bulkhead.forEndpoint(ENDPOINT, maxConcurrent, maxWait);
+        return this;
+    }
+
+    /**
+     * Sets the circuit breaker that rejects calls while the service keeps failing or responding slowly.
+     * Share one breaker between CommentEndpoint instances to fail fast for all of them.
+     * Only blocking calls are guarded; asynchronous and published calls neither check nor feed the breaker.
+     *
+     * @param circuitBreaker The CircuitBreaker guarding each request; CircuitBreaker.disabled() by default.
+     * @return This CommentEndpoint
+     */
+    public CommentEndpoint withCircuitBreaker(CircuitBreaker circuitBreaker) {
+        this.circuitBreaker = circuitBreaker;
+        return this;
+    }
+
+    /**
+     * Spaces every request of this endpoint through the given rate limiter.
+     * Asynchronous and published calls take their token when sent and are delayed without blocking a thread.
+     * Pass the same limiter to several endpoints to shape their combined traffic.
+     *
+     * @param rateLimiter The RateLimiter each request takes a token from; RateLimiter.unlimited() by default.
+     * @return This CommentEndpoint
+     */
+    public CommentEndpoint withRateLimiter(RateLimiter rateLimiter) {
+        this.rateLimiter = rateLimiter;
+        return this;
+    }
+
+    /**
+     * Spaces the requests to one path template through the given rate limiter, in addition to the
+     * endpoint-wide limiter.
+     *
+     * @param path        The path template, one of /comments, /comments/{commentID}.
+     * @param rateLimiter The RateLimiter requests to that path take a token from.
+     * @return This CommentEndpoint
+     */
+    public CommentEndpoint withRateLimiter(String path, RateLimiter rateLimiter) {
+        pathRateLimiters.put(path, rateLimiter);
+        return this;
+    }
+
+    /**
+     * Registers a listener receiving the connect/TTFB/download/validate/deserialize breakdown of every call.
+     *
+     * @param listener The CallTimingListener to notify.
+     * @return This CommentEndpoint
+     */
+    public CommentEndpoint addTimingListener(CallTimingListener listener) {
+        timingListeners.add(listener);
+        return this;
+    }
+
+    /**
+     * Returns the phase breakdown of the last call made by the current thread.
+     *
+     * @return The CallTiming of the last call, or null if this thread made no call yet
+     */
+    public CallTiming getLastCallTiming() {
+        return CallTiming.current();
+    }
+
+    /**
+     * Enables a read-through cache in front of getById and getAll.
+     * A single comment weighs one and a full list weighs its size; entries are dropped when
+     * an update or create on this endpoint succeeds.
+     * Every hit returns its own copy, made through the codec, so callers may modify the returned comments.
+     *
+     * @param ttl       The time a cached response stays valid.
+     * @param maxWeight The maximum number of comments held by each cache.
+     * @return This CommentEndpoint
+     */
+    public CommentEndpoint withCache(Duration ttl, long maxWeight) {
+        this.byIdCache = new ResponseCache<>(ttl, maxWeight, value -> 1, this::copy);
+        this.listCache = new ResponseCache<>(ttl, maxWeight, List::size,
+            list -> list.stream().map(this::copy).collect(Collectors.toList()));
+        return this;
+    }
+
+    /**
+     * Makes getAll send conditional requests and reuse the last list on 304 Not Modified.
+     * The last list stays referenced by this endpoint until a newer one replaces it.
+     *
+     * @return This CommentEndpoint
+     */
+    public CommentEndpoint withConditionalRequests() {
+        this.conditionalAll = ConditionalCache.enabled();
+        return this;
+    }
+
+    /**
+     * Makes concurrent identical getById and getAll calls share one request.
+     * Callers of getById(id, status) share the response and each checks its own expected status;
+     * timing listeners are notified once, for the caller that sent the request;
+     * callers of getById(id) and getAll() share the deserialized result.
+     *
+     * @return This CommentEndpoint
+     */
+    public CommentEndpoint withRequestCoalescing() {
+        this.byIdResponses = SingleFlight.enabled();
+        this.byIdResults = SingleFlight.enabled();
+        this.listResults = SingleFlight.enabled();
+        return this;
+    }
+
+    /**
+     * Returns the number of getById and getAll calls that joined an identical call already in flight.
+     *
+     * @return The coalesced call count
+     */
+    public long getCoalescedCount() {
+        return byIdResponses.getSharedCount() + byIdResults.getSharedCount() + listResults.getSharedCount();
+    }
+
+    /**
+     * Returns the number of getById and getAll calls served from the cache.
+     *
+     * @return The cache hit count
+     */
+    public long getCacheHitCount() {
+        return byIdCache.getHitCount() + listCache.getHitCount();
+    }
+
+    /**
+     * Returns the number of getById and getAll calls that had to reach the service.
+     *
+     * @return The cache miss count
+     */
+    public long getCacheMissCount() {
+        return byIdCache.getMissCount() + listCache.getMissCount();
     }
 
     /**
@@ -38,8 +332,7 @@ public class CommentEndpoint extends AbstractWebEndpoint {
      * @author Ihor Nahirnyi
      */
     public CommentDto create(CommentDto commentDto) {
-        return create(commentDto, HttpStatus.CREATED)
-            .extract().as(CommentDto.class);
+        return deserialize(create(commentDto, HttpStatus.CREATED), "POST", COMMENTS_END);
     }
 
     /**
@@ -52,11 +345,59 @@ public class CommentEndpoint extends AbstractWebEndpoint {
      */
     public ValidatableResponse create(CommentDto commentDto, HttpStatus status) {
         LOGGER.info("Create new Comment");
-        return post(
+        byte[] body = codec.write(commentDto);
+        ValidatableResponse response = validate(send("POST", COMMENTS_END, () -> post(
             this.specification,
             COMMENTS_END,
-            commentDto)
-            .statusCode(status.getCode());
+            body)), status);
+        if (isSuccessful(response)) {
+            listCache.invalidateAll();
+        }
+        return response;
+    }
+
+    /**
+     * Creates a new comment from a body that is already encoded as JSON.
+     *
+     * @param body The encoded CommentDto, sent without being serialized again.
+     * @return The created CommentDto
+     */
+    public CommentDto create(EncodedBody body) {
+        return deserialize(create(body, HttpStatus.CREATED), "POST", COMMENTS_END);
+    }
+
+    /**
+     * Creates a new comment from a body that is already encoded as JSON and validates the HTTP status code.
+     *
+     * @param body   The encoded CommentDto, sent without being serialized again.
+     * @param status The expected HTTP status code.
+     * @return A ValidatableResponse containing the HTTP response for validation
+     */
+    public ValidatableResponse create(EncodedBody body, HttpStatus status) {
+        LOGGER.info("Create new Comment from encoded body");
+        ValidatableResponse response = validate(send("POST", COMMENTS_END, () -> post(
+            this.specification,
+            COMMENTS_END,
+            body.toByteArray())), status);
+        if (isSuccessful(response)) {
+            listCache.invalidateAll();
+        }
+        return response;
+    }
+
+    /**
+     * Creates several comments, running the calls on the configured executor.
+     * Every item is attempted; all failures are reported together once the batch has finished.
+     *
+     * @param commentDtos The CommentDto objects representing the comments to create.
+     * @return The created CommentDto objects in the order of the input list
+     * @throws BulkFailureReport If any comment could not be created
+     */
+    public List<CommentDto> createAll(List<CommentDto> commentDtos) {
+        List<Integer> indexes = IntStream.range(0, commentDtos.size()).boxed().collect(Collectors.toList());
+        Map<Integer, CommentDto> created = executor.invokeAllReporting(indexes,
+            index -> create(codec.encode(commentDtos.get(index))));
+        return List.copyOf(created.values());
     }
 
     /**
@@ -68,8 +409,52 @@ public class CommentEndpoint extends AbstractWebEndpoint {
      * @author Ihor Nahirnyi
      */
     public CommentDto update(int id, CommentDto commentDto) {
-        return update(commentDto, id, HttpStatus.OK)
-            .extract().as(CommentDto.class);
+        return deserialize(update(commentDto, id, HttpStatus.OK), "PUT", COMMENTS_RESOURCE_END);
+    }
+
+    /**
+     * Updates an existing comment from a body that is already encoded as JSON.
+     *
+     * @param id   The ID of the comment to update.
+     * @param body The encoded CommentDto, sent without being serialized again.
+     * @return The updated CommentDto
+     */
+    public CommentDto update(int id, EncodedBody body) {
+        return deserialize(update(body, id, HttpStatus.OK), "PUT", COMMENTS_RESOURCE_END);
+    }
+
+    /**
+     * Updates an existing comment from a body that is already encoded as JSON and validates the HTTP status code.
+     *
+     * @param body   The encoded CommentDto, sent without being serialized again.
+     * @param id     The ID of the comment to update.
+     * @param status The expected HTTP status code.
+     * @return A ValidatableResponse containing the HTTP response for validation
+     */
+    public ValidatableResponse update(EncodedBody body, int id, HttpStatus status) {
+        LOGGER.info("Update Comment by id [{}] from encoded body", id);
+        ValidatableResponse response = validate(send("PUT", COMMENTS_RESOURCE_END, () -> put(
+            this.specification,
+            COMMENTS_RESOURCE_END,
+            body.toByteArray(),
+            id)), status);
+        if (isSuccessful(response)) {
+            invalidate(id);
+        }
+        return response;
+    }
+
+    /**
+     * Updates several comments, running the calls on the configured executor.
+     * Every item is attempted; all failures are reported together once the batch has finished.
+     *
+     * @param commentDtos The CommentDto objects representing the updated comment data, keyed by ID.
+     * @return The updated CommentDto objects keyed by ID
+     * @throws BulkFailureReport If any comment could not be updated
+     */
+    public Map<Integer, CommentDto> updateAll(Map<Integer, CommentDto> commentDtos) {
+        return executor.invokeAllReporting(commentDtos.keySet(),
+            id -> update(id, codec.encode(commentDtos.get(id))));
     }
 
     /**
@@ -83,12 +468,16 @@ public class CommentEndpoint extends AbstractWebEndpoint {
      */
     public ValidatableResponse update(CommentDto commentDto, int id, HttpStatus status) {
         LOGGER.info("Update Comment by id [{}]", id);
-        return put(
+        byte[] body = codec.write(commentDto);
+        ValidatableResponse response = validate(send("PUT", COMMENTS_RESOURCE_END, () -> put(
             this.specification,
             COMMENTS_RESOURCE_END,
-            commentDto,
-            id)
-            .statusCode(status.getCode());
+            body,
+            id)), status);
+        if (isSuccessful(response)) {
+            invalidate(id);
+        }
+        return response;
     }
 
     /**
@@ -99,8 +488,8 @@ public class CommentEndpoint extends AbstractWebEndpoint {
      * @author Ihor Nahirnyi
      */
     public CommentDto getById(int id) {
-        return getById(id, HttpStatus.OK)
-            .extract().as(CommentDto.class);
+        return byIdCache.get(id, key -> byIdResults.execute(key,
+            () -> deserialize(getById(key, HttpStatus.OK), "GET", COMMENTS_RESOURCE_END)));
     }
 
     /**
@@ -113,11 +502,49 @@ public class CommentEndpoint extends AbstractWebEndpoint {
      */
     public ValidatableResponse getById(int id, HttpStatus status) {
         LOGGER.info("Get Comment by id [{}]", id);
-        return get(
-            this.specification,
-            COMMENTS_RESOURCE_END,
-            String.valueOf(id))
-            .statusCode(status.getCode());
+        CallTiming[] leaderTiming = new CallTiming[1];
+        Response response = byIdResponses.execute(id, () -> {
+            ValidatableResponse sent = send("GET", COMMENTS_RESOURCE_END, () -> get(
+                this.specification,
+                COMMENTS_RESOURCE_END,
+                String.valueOf(id)));
+            leaderTiming[0] = CallTiming.current();
+            return sent.extract().response();
+        });
+        // Every caller checks its own status on its own ValidatableResponse over the shared, buffered response;
+        // the call is timed once, by its leader.
+        return validate(response.then(), status, leaderTiming[0]);
+    }
+
+    /**
+     * Retrieves comments by their IDs, running each call on the configured executor.
+     *
+     * @param ids The IDs of the comments to retrieve.
+     * @return The CommentDto objects in the order of the given IDs
+     */
+    public List<CommentDto> getById(List<Integer> ids) {
+        return executor.invokeAll(ids, this::getById);
+    }
+
+    /**
+     * Retrieves several comments by their IDs in one batch, running the calls on the configured executor.
+     *
+     * @param ids The IDs of the comments to retrieve; duplicates are fetched once.
+     * @return The CommentDto objects keyed by ID
+     */
+    public Map<Integer, CommentDto> getByIds(Collection<Integer> ids) {
+        return executor.invokeAllByKey(ids, this::getById);
+    }
+
+    /**
+     * Retrieves several comments by their IDs in one batch and validates the HTTP status code of each response.
+     *
+     * @param ids    The IDs of the comments to retrieve; duplicates are fetched once.
+     * @param status The expected HTTP status code of every response.
+     * @return The ValidatableResponse of each call keyed by ID
+     */
+    public Map<Integer, ValidatableResponse> getByIds(Collection<Integer> ids, HttpStatus status) {
+        return executor.invokeAllByKey(ids, id -> getById(id, status));
     }
 
     /**
@@ -127,7 +554,106 @@ public class CommentEndpoint extends AbstractWebEndpoint {
      * @author Ihor Nahirnyi
      */
     public List<CommentDto> getAll() {
-        return List.of(getAll(HttpStatus.OK).extract().as(CommentDto[].class));
+        return listCache.get(COMMENTS_END, key -> listResults.execute(key, () -> {
+            LOGGER.info("Get all Comments");
+            ValidatableResponse response = send("GET", COMMENTS_END,
+                () -> get(conditionalAll.conditional(this.specification), COMMENTS_END));
+            return conditionalAll.resolve(response,
+                full -> deserializeList(validate(full, HttpStatus.OK), "GET", COMMENTS_END));
+        }));
+    }
+
+    /**
+     * Streams all comments, binding each element as it is read from the response body.
+     * The returned stream must be closed to release the underlying response.
+     *
+     * @return A stream of CommentDto objects representing all comments
+     */
+    public Stream<CommentDto> streamAll() {
+        return codec.stream(openAll());
+    }
+
+    /**
+     * Retrieves all comments indexed by id, with a secondary index on postId named {@link #POST_ID_INDEX}.
+     *
+     * @return An IndexedResult over all comments
+     */
+    public IndexedResult<CommentDto> getAllIndexed() {
+        return new IndexedResult<>(getAll(), CommentDto::getId).withIndex(POST_ID_INDEX, CommentDto::getPostId);
+    }
+
+    /**
+     * Retrieves all comments into off-heap columns instead of a list of CommentDto objects.
+     * The body is parsed from the response stream, so neither the body nor the comments are held on the heap.
+     * Suited to checks that scan a few fields of a large result set.
+     *
+     * @return The CommentColumns holding all comments
+     */
+    public CommentColumns getAllColumnar() {
+        InputStream body = openAll();
+        long start = System.nanoTime();
+        CommentColumns columns = CommentColumns.read(body);
+        recordDeserialization("GET", COMMENTS_END, System.nanoTime() - start);
+        return columns;
+    }
+
+    /**
+     * Retrieves the comments matching the given query.
+     *
+     * @param query The CommentQuery with the filters and fields to apply on the server.
+     * @return A list of CommentDto objects matching the query
+     */
+    public List<CommentDto> getAll(CommentQuery query) {
+        return deserializeList(getAll(query, HttpStatus.OK), "GET", COMMENTS_END);
+    }
+
+    /**
+     * Retrieves the comments matching the given query and validates the HTTP status code.
+     *
+     * @param query  The CommentQuery with the filters and fields to apply on the server.
+     * @param status The expected HTTP status code.
+     * @return A ValidatableResponse containing the HTTP response for validation
+     */
+    public ValidatableResponse getAll(CommentQuery query, HttpStatus status) {
+        LOGGER.info("Get all Comments by query {}", query);
+        RequestSpecification filtered = RestAssured.given()
+            .spec(this.specification)
+            .queryParams(query.toQueryParams());
+        return validate(send("GET", COMMENTS_END, () -> get(filtered, COMMENTS_END)), status);
+    }
+
+    /**
+     * Retrieves all comments page by page, keeping the given number of pages requested ahead.
+     * Pages are fetched concurrently when the endpoint has a concurrent executor, and each page
+     * is expected to return HTTP 200.
+     *
+     * @param pageSize The number of comments requested per page.
+     * @param prefetch The number of pages kept in flight ahead of the consumer.
+     * @return A lazily evaluated stream of all comments
+     */
+    public Stream<CommentDto> getAllPaged(int pageSize, int prefetch) {
+        return new PagedIterator<CommentDto>(
+            page -> deserializeList(getPage(page, pageSize, HttpStatus.OK), "GET", COMMENTS_END),
+            executor,
+            pageSize,
+            prefetch).stream();
+    }
+
+    /**
+     * Retrieves one page of comments and validates the HTTP status code.
+     *
+     * @param page     The 1-based page number.
+     * @param pageSize The number of comments per page.
+     * @param status   The expected HTTP status code.
+     * @return A ValidatableResponse containing the HTTP response for validation
+     */
+    public ValidatableResponse getPage(int page, int pageSize, HttpStatus status) {
+        LOGGER.info("Get Comments page [{}] of size [{}]", page, pageSize);
+        RequestSpecification paged = RestAssured.given()
+            .spec(this.specification)
+            .queryParam("_page", page)
+            .queryParam("_limit", pageSize);
+        return validate(send("GET", COMMENTS_END, () -> get(paged, COMMENTS_END)), status);
     }
 
     /**
@@ -139,8 +665,245 @@ public class CommentEndpoint extends AbstractWebEndpoint {
      */
     public ValidatableResponse getAll(HttpStatus status) {
         LOGGER.info("Get all Comments");
-        ValidatableResponse response = get(this.specification, COMMENTS_END);
+        ValidatableResponse response = send("GET", COMMENTS_END, () -> get(this.specification, COMMENTS_END));
+        return validate(response, status);
+    }
+
+    /**
+     * Creates a new comment asynchronously without blocking the calling thread.
+     *
+     * @param commentDto The CommentDto representing the comment to create.
+     * @return A future completing with the created CommentDto
+     */
+    public CompletableFuture<CommentDto> createAsync(CommentDto commentDto) {
+        LOGGER.info("Create new Comment asynchronously");
+        return sendAsync("POST", COMMENTS_END,
+                () -> asyncClient.post(COMMENTS_END, codec.write(commentDto), HttpStatus.CREATED))
+            .thenApply(codec::read)
+            .whenComplete((created, failure) -> {
+                if (failure == null) {
+                    listCache.invalidateAll();
+                }
+            });
+    }
+
+    /**
+     * Updates an existing comment asynchronously without blocking the calling thread.
+     *
+     * @param id         The ID of the comment to update.
+     * @param commentDto The CommentDto representing the updated comment data.
+     * @return A future completing with the updated CommentDto
+     */
+    public CompletableFuture<CommentDto> updateAsync(int id, CommentDto commentDto) {
+        LOGGER.info("Update Comment by id [{}] asynchronously", id);
+        return sendAsync("PUT", COMMENTS_RESOURCE_END,
+                () -> asyncClient.put(COMMENTS_RESOURCE_END, codec.write(commentDto), HttpStatus.OK, id))
+            .thenApply(codec::read)
+            .whenComplete((updated, failure) -> {
+                if (failure == null) {
+                    invalidate(id);
+                }
+            });
+    }
+
+    /**
+     * Retrieves a comment by its ID asynchronously without blocking the calling thread.
+     *
+     * @param id The ID of the comment to retrieve.
+     * @return A future completing with the retrieved CommentDto
+     */
+    public CompletableFuture<CommentDto> getByIdAsync(int id) {
+        LOGGER.info("Get Comment by id [{}] asynchronously", id);
+        return sendAsync("GET", COMMENTS_RESOURCE_END, () -> asyncClient.get(COMMENTS_RESOURCE_END, HttpStatus.OK, id))
+            .thenApply(codec::read);
+    }
+
+    /**
+     * Retrieves several comments by their IDs asynchronously, sending every request at once.
+     * With an HTTP/2 transport the requests share one connection as concurrent streams.
+     *
+     * @param ids The IDs of the comments to retrieve; duplicates are fetched once.
+     * @return A future completing with the CommentDto objects keyed by ID
+     */
+    public CompletableFuture<Map<Integer, CommentDto>> getByIdsAsync(Collection<Integer> ids) {
+        Map<Integer, CompletableFuture<CommentDto>> calls = new LinkedHashMap<>();
+        for (Integer id : ids) {
+            calls.computeIfAbsent(id, this::getByIdAsync);
+        }
+        return CompletableFuture.allOf(calls.values().toArray(CompletableFuture[]::new))
+            .thenApply(done -> {
+                Map<Integer, CommentDto> byId = new LinkedHashMap<>();
+                calls.forEach((id, call) -> byId.put(id, call.join()));
+                return byId;
+            });
+    }
+
+    /**
+     * Retrieves a list of all comments asynchronously without blocking the calling thread.
+     *
+     * @return A future completing with the list of all comments
+     */
+    public CompletableFuture<List<CommentDto>> getAllAsync() {
+        LOGGER.info("Get all Comments asynchronously");
+        return sendAsync("GET", COMMENTS_END, () -> asyncClient.get(COMMENTS_END, HttpStatus.OK))
+            .thenApply(codec::readList);
+    }
+
+    /**
+     * Publishes all comments, emitting each one as soon as it is parsed from the response body.
+     * The request is sent when the subscriber first requests an element, and the body is read from the
+     * connection only as fast as the subscriber requests comments.
+     *
+     * @return A publisher of all comments
+     */
+    public Flow.Publisher<CommentDto> getAllPublisher() {
+        LOGGER.info("Publish all Comments");
+        return new JsonArrayPublisher<>(
+            () -> sendAsync("GET", COMMENTS_END, () -> asyncClient.stream(COMMENTS_END, HttpStatus.OK)), codec::read);
+    }
+
+    /**
+     * Publishes the comment with the given ID as a single-value publisher.
+     *
+     * @param id The ID of the comment to retrieve.
+     * @return A publisher of the retrieved CommentDto
+     */
+    public Flow.Publisher<CommentDto> getByIdPublisher(int id) {
+        return new SinglePublisher<>(() -> getByIdAsync(id));
+    }
+
+    /**
+     * Creates a new comment when the returned single-value publisher is subscribed to.
+     *
+     * @param commentDto The CommentDto representing the comment to create.
+     * @return A publisher of the created CommentDto
+     */
+    public Flow.Publisher<CommentDto> createPublisher(CommentDto commentDto) {
+        return new SinglePublisher<>(() -> createAsync(commentDto));
+    }
+
+    /**
+     * Updates an existing comment when the returned single-value publisher is subscribed to.
+     *
+     * @param id         The ID of the comment to update.
+     * @param commentDto The CommentDto representing the updated comment data.
+     * @return A publisher of the updated CommentDto
+     */
+    public Flow.Publisher<CommentDto> updatePublisher(int id, CommentDto commentDto) {
+        return new SinglePublisher<>(() -> updateAsync(id, commentDto));
+    }
+
+    private void invalidate(int id) {
+        byIdCache.invalidate(id);
+        listCache.invalidateAll();
+    }
+
+    private ValidatableResponse send(String method, String path, Supplier<ValidatableResponse> call) {
+        // Reading the body hands the pooled connection back; only the streaming reads of openAll() keep it
+        // until the caller closes the stream.
+        return open(method, path, () -> buffered(call.get()));
+    }
+
+    private ValidatableResponse open(String method, String path, Supplier<ValidatableResponse> call) {
+        return retryPolicy.execute(() -> guard(method, path, call), ENDPOINT, method, path, metrics);
+    }
+
+    private InputStream openAll() {
+        long start = System.nanoTime();
+        ValidatableResponse response = open("GET", COMMENTS_END, () -> get(streamingSpecification, COMMENTS_END));
+        int status = response.extract().statusCode();
+        InputStream body = new MeteredInputStream(response.extract().asInputStream(), bytes -> metrics.recordCall(
+            ENDPOINT, "GET", COMMENTS_END, status, System.nanoTime() - start, 0, bytes));
+        try {
+            validate(response, HttpStatus.OK);
+        } catch (AssertionError | RuntimeException e) {
+            try (InputStream unread = body) {
+                unread.transferTo(OutputStream.nullOutputStream());
+            } catch (IOException suppressed) {
+                e.addSuppressed(suppressed);
+            }
+            throw e;
+        }
+        return body;
+    }
+
+    private ValidatableResponse guard(String method, String path, Supplier<ValidatableResponse> call) {
+        long throttled = rateLimiter.acquire() + pathRateLimiters.getOrDefault(path, RateLimiter.unlimited()).acquire();
+        if (throttled > 0) {
+            metrics.recordThrottle(ENDPOINT, method, path, throttled);
+        }
+        try {
+            return bulkhead.execute(() -> circuitBreaker.execute(call, metrics));
+        } catch (CallRejectedException e) {
+            metrics.recordRejection(ENDPOINT, method, path);
+            throw e;
+        }
+    }
+
+    private <T> CompletableFuture<T> sendAsync(String method, String path, Supplier<CompletableFuture<T>> call) {
+        long throttled = Math.max(rateLimiter.reserve(),
+            pathRateLimiters.getOrDefault(path, RateLimiter.unlimited()).reserve());
+        if (throttled <= 0) {
+            return call.get();
+        }
+        metrics.recordThrottle(ENDPOINT, method, path, throttled);
+        Executor delayed = CompletableFuture.delayedExecutor(throttled, TimeUnit.NANOSECONDS);
+        return CompletableFuture.runAsync(() -> { }, delayed).thenCompose(ready -> call.get());
+    }
+
+    private static ValidatableResponse buffered(ValidatableResponse response) {
+        response.extract().asByteArray();
+        CallTiming timing = CallTiming.current();
+        if (timing != null) {
+            timing.markBodyRead();
+        }
+        return response;
+    }
+
+    private ValidatableResponse validate(ValidatableResponse response, HttpStatus status) {
+        return validate(response, status, CallTiming.current());
+    }
+
+    private ValidatableResponse validate(ValidatableResponse response, HttpStatus status, CallTiming timing) {
+        long start = System.nanoTime();
         response.statusCode(status.getCode());
+        if (timing != null) {
+            timing.recordValidation(System.nanoTime() - start);
+            timingListeners.forEach(listener -> listener.onResponse(timing));
+        }
         return response;
     }
+
+    private CommentDto copy(CommentDto comment) {
+        return codec.read(codec.write(comment));
+    }
+
+    private CommentDto deserialize(ValidatableResponse response, String method, String path) {
+        return bind(response, codec::read, method, path);
+    }
+
+    private List<CommentDto> deserializeList(ValidatableResponse response, String method, String path) {
+        return bind(response, codec::readList, method, path);
+    }
+
+    private <T> T bind(ValidatableResponse response, Function<byte[], T> reader, String method, String path) {
+        byte[] body = response.extract().asByteArray();
+        long start = System.nanoTime();
+        T value = reader.apply(body);
+        recordDeserialization(method, path, System.nanoTime() - start);
+        return value;
+    }
+
+    private void recordDeserialization(String method, String path, long nanos) {
+        metrics.recordDeserialization(ENDPOINT, method, path, nanos);
+        CallTiming timing = CallTiming.current();
+        if (timing != null) {
+            timing.recordDeserialization(nanos);
+            timingListeners.forEach(listener -> listener.onDeserialized(timing));
+        }
+    }
+
+    private static boolean isSuccessful(ValidatableResponse response) {
+        return response.extract().statusCode() / 100 == 2;
+    }
 }
@@ -0,0 +1,55 @@
+package com.softserve.taf.services.placeholder.endpoints;
+
+import com.softserve.taf.services.common.ResourceQuery;
+
+/**
+ * This class builds server-side filters for the comments collection.
+ * @since 18Oct2026
+ */
+public class CommentQuery extends ResourceQuery<CommentQuery> {
+
+    /**
+     * Filters comments by the post they belong to.
+     *
+     * @param postId The ID of the post.
+     * @return This CommentQuery
+     */
+    public CommentQuery postId(int postId) {
+        return param("postId", postId);
+    }
+
+    /**
+     * Filters comments by ID.
+     *
+     * @param id The ID of the comment.
+     * @return This CommentQuery
+     */
+    public CommentQuery id(int id) {
+        return param("id", id);
+    }
+
+    /**
+     * Filters comments by name.
+     *
+     * @param name The name of the comment.
+     * @return This CommentQuery
+     */
+    public CommentQuery name(String name) {
+        return param("name", name);
+    }
+
+    /**
+     * Filters comments by author email.
+     *
+     * @param email The email of the comment author.
+     * @return This CommentQuery
+     */
+    public CommentQuery email(String email) {
+        return param("email", email);
+    }
+
+    @Override
+    protected CommentQuery self() {
+        return this;
+    }
+}
@@ -0,0 +1,102 @@
+package com.softserve.taf.services.common;
+
+import io.restassured.RestAssured;
+import io.restassured.response.ExtractableResponse;
+import io.restassured.response.Response;
+import io.restassured.response.ValidatableResponse;
+import io.restassured.specification.RequestSpecification;
+import java.util.function.Function;
+
+/**
+ * This class keeps the last deserialized body of a GET resource together with its validators.
+ * Follow-up requests carry If-None-Match/If-Modified-Since, and a 304 Not Modified answer is served
+ * from the stored body without transferring or parsing it again.
+ * @since 18Oct2026
+ *
+ * @param <T> The type of the deserialized body
+ */
+public class ConditionalCache<T> {
+
+    private static final int NOT_MODIFIED = 304;
+
+    private final boolean enabled;
+    private volatile Snapshot<T> snapshot;
+
+    private ConditionalCache(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Creates a cache that stores validators and serves 304 responses from the stored body.
+     *
+     * @return An enabled ConditionalCache
+     */
+    public static <T> ConditionalCache<T> enabled() {
+        return new ConditionalCache<>(true);
+    }
+
+    /**
+     * Creates a cache that sends plain requests and stores nothing.
+     *
+     * @return A pass-through ConditionalCache
+     */
+    public static <T> ConditionalCache<T> disabled() {
+        return new ConditionalCache<>(false);
+    }
+
+    /**
+     * Adds the stored validators to a copy of the given specification.
+     *
+     * @param specification The RequestSpecification used for the GET request.
+     * @return The specification to send the request with
+     */
+    public RequestSpecification conditional(RequestSpecification specification) {
+        Snapshot<T> current = snapshot;
+        if (!enabled || current == null) {
+            return specification;
+        }
+        RequestSpecification conditional = RestAssured.given().spec(specification);
+        if (current.etag != null) {
+            conditional.header("If-None-Match", current.etag);
+        }
+        if (current.lastModified != null) {
+            conditional.header("If-Modified-Since", current.lastModified);
+        }
+        return conditional;
+    }
+
+    /**
+     * Returns the stored body on 304 Not Modified, otherwise reads and stores the response.
+     *
+     * @param response The response of the GET request.
+     * @param reader   The function validating and deserializing a full response.
+     * @return The deserialized body
+     */
+    public T resolve(ValidatableResponse response, Function<ValidatableResponse, T> reader) {
+        ExtractableResponse<Response> extracted = response.extract();
+        Snapshot<T> current = snapshot;
+        if (enabled && current != null && extracted.statusCode() == NOT_MODIFIED) {
+            return current.value;
+        }
+        T value = reader.apply(response);
+        String etag = extracted.header("ETag");
+        String lastModified = extracted.header("Last-Modified");
+        if (enabled && (etag != null || lastModified != null)) {
+            snapshot = new Snapshot<>(value, etag, lastModified);
+        }
+        return value;
+    }
+
+    private static final class Snapshot<T> {
+
+        private final T value;
+        private final String etag;
+        private final String lastModified;
+
+        private Snapshot(T value, String etag, String lastModified) {
+            this.value = value;
+            this.etag = etag;
+            this.lastModified = lastModified;
+        }
+    }
+}
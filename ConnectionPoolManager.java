@@ -0,0 +1,149 @@
+package com.softserve.taf.services.common;
+
+import io.restassured.RestAssured;
+import io.restassured.config.HttpClientConfig;
+import io.restassured.config.RestAssuredConfig;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.RequestSpecification;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.apache.http.client.params.ClientPNames;
+import org.apache.http.impl.client.DefaultHttpClient;
+import org.apache.http.impl.conn.PoolingClientConnectionManager;
+import org.apache.http.pool.PoolStats;
+
+/**
+ * This class owns a pooled HTTP client that keeps connections alive between endpoint calls.
+ * Specifications attached to the same manager reuse its connections instead of opening a new
+ * TCP/TLS connection for every request. A connection returns to the pool once its response body is read
+ * or closed, and a request waiting longer than the connection-request timeout for one fails.
+ * @since 18Oct2026
+ */
+// REST-assured's HttpClientFactory must return an AbstractHttpClient, which forces the deprecated
+// DefaultHttpClient and PoolingClientConnectionManager of HttpClient 4.x.
+@SuppressWarnings("deprecation")
+public class ConnectionPoolManager implements AutoCloseable {
+
+    private static final int DEFAULT_MAX_TOTAL = 200;
+    private static final int DEFAULT_MAX_PER_ROUTE = 50;
+    private static final long DEFAULT_IDLE_SECONDS = 30;
+    private static final Duration DEFAULT_CONNECTION_REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    private static final ConnectionPoolManager SHARED = new ConnectionPoolManager(
+        DEFAULT_MAX_TOTAL, DEFAULT_MAX_PER_ROUTE, DEFAULT_IDLE_SECONDS, DEFAULT_CONNECTION_REQUEST_TIMEOUT);
+
+    private final PoolingClientConnectionManager connectionManager;
+    private final DefaultHttpClient httpClient;
+    private final ScheduledExecutorService evictor;
+    private final long connectionRequestTimeoutMillis;
+
+    /**
+     * Constructs a new ConnectionPoolManager with its own pool.
+     *
+     * @param maxTotal    The maximum number of connections across all routes.
+     * @param maxPerRoute The maximum number of connections per route.
+     * @param idleSeconds The time after which an idle connection is closed.
+     */
+    public ConnectionPoolManager(int maxTotal, int maxPerRoute, long idleSeconds) {
+        this(maxTotal, maxPerRoute, idleSeconds, DEFAULT_CONNECTION_REQUEST_TIMEOUT);
+    }
+
+    /**
+     * Constructs a new ConnectionPoolManager with its own pool and connection-request timeout.
+     *
+     * @param maxTotal                 The maximum number of connections across all routes.
+     * @param maxPerRoute              The maximum number of connections per route.
+     * @param idleSeconds              The time after which an idle connection is closed.
+     * @param connectionRequestTimeout The time a request waits for a free connection before it fails.
+     */
+    public ConnectionPoolManager(int maxTotal, int maxPerRoute, long idleSeconds,
+                                 Duration connectionRequestTimeout) {
+        this.connectionRequestTimeoutMillis = connectionRequestTimeout.toMillis();
+        this.connectionManager = new PoolingClientConnectionManager();
+        connectionManager.setMaxTotal(maxTotal);
+        connectionManager.setDefaultMaxPerRoute(maxPerRoute);
+        this.httpClient = new DefaultHttpClient(connectionManager);
+        httpClient.getParams().setLongParameter(ClientPNames.CONN_MANAGER_TIMEOUT, connectionRequestTimeoutMillis);
+        httpClient.addRequestInterceptor((request, context) -> CallTiming.markConnected());
+        httpClient.addResponseInterceptor((response, context) -> CallTiming.markHeadersReceived());
+        this.evictor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "connection-pool-evictor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        evictor.scheduleWithFixedDelay(() -> {
+            connectionManager.closeExpiredConnections();
+            connectionManager.closeIdleConnections(idleSeconds, TimeUnit.SECONDS);
+        }, idleSeconds, idleSeconds, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Returns the manager shared by all endpoints by default.
+     *
+     * @return The shared ConnectionPoolManager
+     */
+    public static ConnectionPoolManager shared() {
+        return SHARED;
+    }
+
+    /**
+     * Creates a copy of the given specification that sends its requests through this pool.
+     * The specification's own HttpClientConfig, with its params, timeouts and redirect settings, is kept;
+     * the pool's connection-request timeout applies unless the specification sets one.
+     *
+     * @param specification The RequestSpecification to attach.
+     * @return A new specification using the pooled client
+     */
+    public RequestSpecification attach(RequestSpecification specification) {
+        RestAssuredConfig config = ((FilterableRequestSpecification) specification).getConfig();
+        RestAssuredConfig base = config != null ? config : RestAssuredConfig.config();
+        HttpClientConfig httpClientConfig = base.getHttpClientConfig()
+            .reuseHttpClientInstance()
+            .httpClientFactory(() -> httpClient);
+        if (!httpClientConfig.params().containsKey(ClientPNames.CONN_MANAGER_TIMEOUT)) {
+            httpClientConfig = httpClientConfig
+                .setParam(ClientPNames.CONN_MANAGER_TIMEOUT, connectionRequestTimeoutMillis);
+        }
+        return RestAssured.given()
+            .spec(specification)
+            .config(base.httpClient(httpClientConfig));
+    }
+
+    /**
+     * Returns the number of connections currently leased by requests.
+     *
+     * @return The leased connection count
+     */
+    public int getLeased() {
+        return stats().getLeased();
+    }
+
+    /**
+     * Returns the number of requests waiting for a connection.
+     *
+     * @return The pending request count
+     */
+    public int getPending() {
+        return stats().getPending();
+    }
+
+    /**
+     * Returns the number of idle connections available for reuse.
+     *
+     * @return The available connection count
+     */
+    public int getAvailable() {
+        return stats().getAvailable();
+    }
+
+    @Override
+    public void close() {
+        evictor.shutdown();
+        connectionManager.shutdown();
+    }
+
+    private PoolStats stats() {
+        return connectionManager.getTotalStats();
+    }
+}
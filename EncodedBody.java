@@ -0,0 +1,62 @@
+package com.softserve.taf.services.common;
+
+import java.nio.ByteBuffer;
+
+/**
+ * This class holds a request body that is already encoded as JSON.
+ * It is sent as-is, so the same payload can be posted many times without being serialized again.
+ * @since 18Oct2026
+ */
+public final class EncodedBody {
+
+    private final byte[] bytes;
+
+    private EncodedBody(byte[] bytes) {
+        this.bytes = bytes;
+    }
+
+    /**
+     * Wraps the given bytes without copying them; the array must not be modified afterwards.
+     *
+     * @param json The UTF-8 encoded JSON.
+     * @return An EncodedBody backed by the given array
+     */
+    public static EncodedBody of(byte[] json) {
+        return new EncodedBody(json);
+    }
+
+    /**
+     * Wraps the remaining bytes of the given buffer.
+     * A heap buffer that spans its whole backing array is used without copying.
+     *
+     * @param json The buffer containing UTF-8 encoded JSON between its position and limit.
+     * @return An EncodedBody with the remaining bytes of the buffer
+     */
+    public static EncodedBody of(ByteBuffer json) {
+        if (json.hasArray() && json.arrayOffset() == 0 && json.position() == 0
+            && json.remaining() == json.array().length) {
+            return new EncodedBody(json.array());
+        }
+        byte[] copy = new byte[json.remaining()];
+        json.duplicate().get(copy);
+        return new EncodedBody(copy);
+    }
+
+    /**
+     * Returns the encoded bytes without copying them.
+     *
+     * @return The UTF-8 encoded JSON
+     */
+    public byte[] toByteArray() {
+        return bytes;
+    }
+
+    /**
+     * Returns the size of the encoded body.
+     *
+     * @return The number of bytes
+     */
+    public int length() {
+        return bytes.length;
+    }
+}
@@ -0,0 +1,140 @@
+package com.softserve.taf.benchmarks;
+
+import io.restassured.RestAssured;
+import io.restassured.builder.RequestSpecBuilder;
+import io.restassured.http.ContentType;
+import io.restassured.specification.RequestSpecification;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import com.softserve.taf.models.placeholder.comment.CommentDto;
+import com.softserve.taf.models.placeholder.user.UserDto;
+import com.softserve.taf.services.common.ConnectionPoolManager;
+import com.softserve.taf.services.common.JacksonCodec;
+import com.softserve.taf.services.placeholder.endpoints.CommentEndpoint;
+import com.softserve.taf.services.placeholder.endpoints.UserEndpoint;
+import com.softserve.taf.services.placeholder.stub.PlaceholderStubServer;
+
+/**
+ * This class measures every CommentEndpoint and UserEndpoint operation against an in-process stub server.
+ * The raw* benchmarks issue the same requests over the same pooled connections without the endpoint layer
+ * as a baseline.
+ * Run with the GC profiler to get the allocation rate per operation.
+ * @since 18Oct2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class EndpointBenchmark {
+
+    private static final String COMMENT_JSON =
+        "{\"postId\":1,\"id\":1,\"name\":\"name\",\"email\":\"author@example.com\",\"body\":\"body\"}";
+    private static final String USER_JSON =
+        "{\"id\":1,\"name\":\"User\",\"username\":\"user\",\"email\":\"user@example.com\"}";
+
+    @Param({"100", "5000"})
+    public int datasetSize;
+
+    private PlaceholderStubServer server;
+    private RequestSpecification specification;
+    private RequestSpecification pooledSpecification;
+    private CommentEndpoint comments;
+    private UserEndpoint users;
+    private CommentDto comment;
+    private UserDto user;
+
+    @Setup
+    public void setUp() {
+        server = new PlaceholderStubServer(datasetSize);
+        specification = new RequestSpecBuilder()
+            .setBaseUri(server.getBaseUri())
+            .setContentType(ContentType.JSON)
+            .build();
+        pooledSpecification = ConnectionPoolManager.shared().attach(specification);
+        comments = new CommentEndpoint(specification);
+        users = new UserEndpoint(specification);
+        comment = new JacksonCodec<>(CommentDto.class).read(COMMENT_JSON.getBytes(StandardCharsets.UTF_8));
+        user = new JacksonCodec<>(UserDto.class).read(USER_JSON.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @TearDown
+    public void tearDown() {
+        server.close();
+    }
+
+    @Benchmark
+    public CommentDto commentCreate() {
+        return comments.create(comment);
+    }
+
+    @Benchmark
+    public CommentDto commentUpdate() {
+        return comments.update(1, comment);
+    }
+
+    @Benchmark
+    public CommentDto commentGetById() {
+        return comments.getById(1);
+    }
+
+    @Benchmark
+    public List<CommentDto> commentGetAll() {
+        return comments.getAll();
+    }
+
+    @Benchmark
+    public UserDto userCreate() {
+        return users.create(user);
+    }
+
+    @Benchmark
+    public UserDto userUpdate() {
+        return users.update(1, user);
+    }
+
+    @Benchmark
+    public UserDto userGetById() {
+        return users.getById("1");
+    }
+
+    @Benchmark
+    public List<UserDto> userGetAll() {
+        return users.getAll();
+    }
+
+    @Benchmark
+    public byte[] rawGetById() {
+        return RestAssured.given().spec(pooledSpecification).get("/comments/1").asByteArray();
+    }
+
+    @Benchmark
+    public byte[] rawGetAll() {
+        return RestAssured.given().spec(pooledSpecification).get("/comments").asByteArray();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(EndpointBenchmark.class.getSimpleName())
+            .addProfiler(GCProfiler.class)
+            .build()).run();
+    }
+}
@@ -0,0 +1,256 @@
+package com.softserve.taf.services.common;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * This class runs endpoint calls for a collection of inputs with a bounded number of calls in flight.
+ * A permit is taken before each task is submitted, so the caller is held back once the limit is reached.
+ * @since 18Oct2026
+ */
+public class EndpointExecutor implements AutoCloseable {
+
+    private static final Logger LOGGER = LogManager.getLogger();
+    private static final int SHARED_CONCURRENCY = 16;
+    private static final EndpointExecutor SHARED = platformThreads(SHARED_CONCURRENCY);
+
+    private final Executor executor;
+    private final Semaphore permits;
+
+    /**
+     * Constructs a new EndpointExecutor on top of the given executor.
+     *
+     * @param executor    The executor running each call.
+     * @param concurrency The maximum number of calls in flight.
+     */
+    public EndpointExecutor(Executor executor, int concurrency) {
+        if (concurrency < 1) {
+            throw new IllegalArgumentException("Concurrency must be positive but was " + concurrency);
+        }
+        this.executor = executor;
+        this.permits = new Semaphore(concurrency);
+    }
+
+    /**
+     * Returns the executor used by endpoints by default: 16 daemon platform threads shared by all endpoints.
+     * Its calls must not start further batch calls on it, since they could wait for permits their caller holds.
+     *
+     * @return The shared EndpointExecutor
+     */
+    public static EndpointExecutor shared() {
+        return SHARED;
+    }
+
+    /**
+     * Creates an executor running every call on the calling thread, one after another.
+     *
+     * @return A sequential EndpointExecutor
+     */
+    public static EndpointExecutor sameThread() {
+        return new EndpointExecutor(Runnable::run, 1);
+    }
+
+    /**
+     * Creates an executor running every call on a fixed pool of platform threads.
+     *
+     * @param threads The number of platform threads, which is also the concurrency limit.
+     * @return A pooled EndpointExecutor
+     */
+    public static EndpointExecutor platformThreads(int threads) {
+        return platformThreads(threads, threads);
+    }
+
+    /**
+     * Creates an executor running calls on a fixed pool of platform threads with a wider in-flight window.
+     * Calls beyond the number of threads wait in the pool queue, and the caller blocks once the window is full.
+     *
+     * @param threads The number of platform threads.
+     * @param window  The maximum number of calls running or queued.
+     * @return A pooled EndpointExecutor
+     */
+    public static EndpointExecutor platformThreads(int threads, int window) {
+        return new EndpointExecutor(Executors.newFixedThreadPool(threads, daemon()), window);
+    }
+
+    /**
+     * Creates an executor running every call on its own virtual thread.
+     * Falls back to a cached pool of platform threads when the JVM has no virtual threads;
+     * see isVirtualThreadsAvailable().
+     *
+     * @param concurrency The maximum number of calls in flight.
+     * @return A virtual-thread EndpointExecutor
+     */
+    public static EndpointExecutor virtualThreads(int concurrency) {
+        return new EndpointExecutor(newVirtualThreadExecutor(), concurrency);
+    }
+
+    /**
+     * Tells whether the JVM provides virtual threads, i.e. whether virtualThreads(int) runs on them.
+     *
+     * @return True on JDK 21 and later
+     */
+    public static boolean isVirtualThreadsAvailable() {
+        try {
+            Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return true;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Applies the call to every input and returns the results in input order.
+     * All calls are awaited; the first failure is rethrown with the others attached as suppressed.
+     *
+     * @param inputs The inputs to process.
+     * @param call   The endpoint call applied to each input.
+     * @return The results, in the iteration order of the inputs
+     */
+    public <I, R> List<R> invokeAll(Collection<I> inputs, Function<? super I, ? extends R> call) {
+        List<CompletableFuture<R>> futures = new ArrayList<>(inputs.size());
+        for (I input : inputs) {
+            futures.add(submit(() -> call.apply(input)));
+        }
+        List<R> results = new ArrayList<>(futures.size());
+        Throwable failure = null;
+        for (CompletableFuture<R> future : futures) {
+            try {
+                results.add(future.join());
+            } catch (CompletionException e) {
+                if (failure == null) {
+                    failure = e.getCause();
+                } else {
+                    failure.addSuppressed(e.getCause());
+                }
+            }
+        }
+        if (failure != null) {
+            throw rethrow(failure);
+        }
+        return results;
+    }
+
+    /**
+     * Applies the call once per distinct key and maps every key to its result.
+     * Failures are reported the same way as {@link #invokeAll(Collection, Function)}.
+     *
+     * @param keys The keys to process; duplicates are called only once.
+     * @param call The endpoint call applied to each key.
+     * @return The results keyed by input, in first-seen key order
+     */
+    public <K, R> Map<K, R> invokeAllByKey(Collection<K> keys, Function<? super K, ? extends R> call) {
+        List<K> distinct = new ArrayList<>(new LinkedHashSet<>(keys));
+        List<R> results = invokeAll(distinct, call);
+        Map<K, R> byKey = new LinkedHashMap<>();
+        for (int i = 0; i < distinct.size(); i++) {
+            byKey.put(distinct.get(i), results.get(i));
+        }
+        return byKey;
+    }
+
+    /**
+     * Applies the call once per distinct key, letting every call finish even when some fail.
+     * Failed keys are collected into a single {@link BulkFailureReport}.
+     *
+     * @param keys The keys to process; duplicates are called only once.
+     * @param call The endpoint call applied to each key.
+     * @return The results keyed by input, in first-seen key order
+     * @throws BulkFailureReport If any call failed
+     */
+    public <K, R> Map<K, R> invokeAllReporting(Collection<K> keys, Function<? super K, ? extends R> call) {
+        Map<K, CompletableFuture<R>> futures = new LinkedHashMap<>();
+        for (K key : new LinkedHashSet<>(keys)) {
+            futures.put(key, submit(() -> call.apply(key)));
+        }
+        Map<K, R> results = new LinkedHashMap<>();
+        Map<K, Throwable> failures = new LinkedHashMap<>();
+        futures.forEach((key, future) -> {
+            try {
+                results.put(key, future.join());
+            } catch (CompletionException e) {
+                failures.put(key, e.getCause());
+            }
+        });
+        if (!failures.isEmpty()) {
+            throw new BulkFailureReport(futures.size(), failures);
+        }
+        return results;
+    }
+
+    /**
+     * Submits a single call, blocking the caller until a permit is available.
+     *
+     * @param call The endpoint call to run.
+     * @return A future completing with the result of the call
+     */
+    public <R> CompletableFuture<R> submit(Supplier<? extends R> call) {
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a free slot", e);
+        }
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                try {
+                    return call.get();
+                } finally {
+                    permits.release();
+                }
+            }, executor);
+        } catch (RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public void close() {
+        if (this != SHARED && executor instanceof ExecutorService) {
+            ((ExecutorService) executor).shutdown();
+        }
+    }
+
+    private static RuntimeException rethrow(Throwable failure) {
+        if (failure instanceof Error) {
+            throw (Error) failure;
+        }
+        if (failure instanceof RuntimeException) {
+            return (RuntimeException) failure;
+        }
+        return new CompletionException(failure);
+    }
+
+    private static ExecutorService newVirtualThreadExecutor() {
+        // Resolved reflectively so the module still compiles against pre-21 JDKs.
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            LOGGER.warn("Virtual threads are not available, falling back to platform threads");
+            return Executors.newCachedThreadPool(daemon());
+        }
+    }
+
+    private static ThreadFactory daemon() {
+        return runnable -> {
+            Thread thread = new Thread(runnable, "endpoint-executor");
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,90 @@
+package com.softserve.taf.services.common;
+
+/**
+ * This interface receives the measurements taken for every endpoint call.
+ * Implementations export them to a metrics registry, e.g. a local in-memory one or Micrometer.
+ * Every measurement is tagged with the endpoint class, the HTTP method and the path template.
+ * @since 18Oct2026
+ */
+public interface EndpointMetrics {
+
+    /**
+     * A registry that drops every measurement.
+     */
+    EndpointMetrics NOOP = new EndpointMetrics() {
+        @Override
+        public void recordCall(String endpoint, String method, String path, int status,
+                               long latencyNanos, long bytesSent, long bytesReceived) {
+        }
+
+        @Override
+        public void recordDeserialization(String endpoint, String method, String path, long nanos) {
+        }
+    };
+
+    /**
+     * Records one HTTP exchange.
+     *
+     * @param endpoint      The simple name of the endpoint class.
+     * @param method        The HTTP method.
+     * @param path          The path template, e.g. /comments/{commentID}.
+     * @param status        The HTTP status code of the response.
+     * @param latencyNanos  The time from sending the request until the response was received.
+     * @param bytesSent     The size of the request body, or 0 when unknown.
+     * @param bytesReceived The size of the response body, or 0 when unknown.
+     */
+    void recordCall(String endpoint, String method, String path, int status,
+                    long latencyNanos, long bytesSent, long bytesReceived);
+
+    /**
+     * Records the time spent binding a response body to DTOs.
+     *
+     * @param endpoint The simple name of the endpoint class.
+     * @param method   The HTTP method.
+     * @param path     The path template.
+     * @param nanos    The deserialization time.
+     */
+    void recordDeserialization(String endpoint, String method, String path, long nanos);
+
+    /**
+     * Records that a request is about to be re-sent after a transient failure.
+     *
+     * @param endpoint The simple name of the endpoint class.
+     * @param method   The HTTP method.
+     * @param path     The path template.
+     * @param status   The HTTP status code of the response that triggered the retry.
+     */
+    default void recordRetry(String endpoint, String method, String path, int status) {
+    }
+
+    /**
+     * Records a call that was rejected without being sent, by a full bulkhead or an open circuit.
+     *
+     * @param endpoint The simple name of the endpoint class.
+     * @param method   The HTTP method.
+     * @param path     The path template.
+     */
+    default void recordRejection(String endpoint, String method, String path) {
+    }
+
+    /**
+     * Records a state change of a circuit breaker.
+     *
+     * @param circuit The name of the circuit breaker.
+     * @param from    The previous state.
+     * @param to      The new state.
+     */
+    default void recordCircuitTransition(String circuit, String from, String to) {
+    }
+
+    /**
+     * Records the time a request was held back by a rate limiter before it was sent.
+     *
+     * @param endpoint The simple name of the endpoint class.
+     * @param method   The HTTP method.
+     * @param path     The path template.
+     * @param nanos    The time waited for a token.
+     */
+    default void recordThrottle(String endpoint, String method, String path, long nanos) {
+    }
+}
@@ -0,0 +1,106 @@
+package com.softserve.taf.benchmarks;
+
+import io.restassured.builder.RequestSpecBuilder;
+import io.restassured.http.ContentType;
+import io.restassured.specification.RequestSpecification;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import com.softserve.taf.models.placeholder.user.UserDto;
+import com.softserve.taf.services.common.EndpointExecutor;
+import com.softserve.taf.services.placeholder.endpoints.UserEndpoint;
+import com.softserve.taf.services.placeholder.stub.PlaceholderStubServer;
+
+/**
+ * This class compares the execution modes of EndpointExecutor for a getById fan-out.
+ * BLOCKING is the sequential per-thread model the endpoints used before executors were added.
+ * VIRTUAL_THREADS fails its setup on JVMs without virtual threads rather than reporting platform threads.
+ * @since 18Oct2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class FanOutBenchmark {
+
+    /**
+     * The execution modes being compared.
+     */
+    public enum ExecutionMode {
+        BLOCKING, PLATFORM_THREADS, VIRTUAL_THREADS
+    }
+
+    @Param({"BLOCKING", "PLATFORM_THREADS", "VIRTUAL_THREADS"})
+    public ExecutionMode mode;
+
+    @Param({"1000"})
+    public int ids;
+
+    @Param({"64"})
+    public int concurrency;
+
+    private PlaceholderStubServer server;
+    private EndpointExecutor executor;
+    private UserEndpoint users;
+    private List<String> userIds;
+
+    @Setup
+    public void setUp() {
+        if (mode == ExecutionMode.VIRTUAL_THREADS && !EndpointExecutor.isVirtualThreadsAvailable()) {
+            throw new IllegalStateException("VIRTUAL_THREADS needs JDK 21 or later; on "
+                + System.getProperty("java.version") + " it would measure platform threads");
+        }
+        server = new PlaceholderStubServer(ids);
+        RequestSpecification specification = new RequestSpecBuilder()
+            .setBaseUri(server.getBaseUri())
+            .setContentType(ContentType.JSON)
+            .build();
+        switch (mode) {
+            case PLATFORM_THREADS:
+                executor = EndpointExecutor.platformThreads(concurrency);
+                break;
+            case VIRTUAL_THREADS:
+                executor = EndpointExecutor.virtualThreads(concurrency);
+                break;
+            default:
+                executor = EndpointExecutor.sameThread();
+        }
+        users = new UserEndpoint(specification).withExecutor(executor);
+        userIds = IntStream.rangeClosed(1, ids).mapToObj(String::valueOf).collect(Collectors.toList());
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.close();
+        server.close();
+    }
+
+    @Benchmark
+    public List<UserDto> getByIdFanOut() {
+        return users.getById(userIds);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(FanOutBenchmark.class.getSimpleName())
+            .build()).run();
+    }
+}
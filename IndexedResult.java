@@ -0,0 +1,136 @@
+package com.softserve.taf.services.common;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.ToIntFunction;
+
+/**
+ * This class holds a fetched list together with int-keyed hash indexes over it.
+ * The primary index maps the unique id of each element to the element; secondary indexes map a
+ * foreign key, such as a post id, to every element carrying it. Lookups take constant time and never box keys.
+ * @since 18Oct2026
+ *
+ * @param <T> The type of the indexed elements
+ */
+public class IndexedResult<T> {
+
+    private final List<T> values;
+    private final IntRowIndex primary;
+    private final Map<String, IntRowIndex> secondary = new ConcurrentHashMap<>();
+
+    /**
+     * Constructs a new IndexedResult with a primary index on the given id.
+     *
+     * @param values The elements to index; the list is copied.
+     * @param id     The function extracting the unique id of an element.
+     */
+    public IndexedResult(List<T> values, ToIntFunction<? super T> id) {
+        this.values = List.copyOf(values);
+        this.primary = new IntRowIndex(this.values.size());
+        for (int row = 0; row < this.values.size(); row++) {
+            int key = id.applyAsInt(this.values.get(row));
+            if (primary.add(key, row) > 1) {
+                throw new IllegalStateException("Duplicate id " + key + " at row " + row);
+            }
+        }
+    }
+
+    /**
+     * Adds a secondary multi-map index under the given name, replacing any index with the same name.
+     *
+     * @param name The name used to look the index up.
+     * @param key  The function extracting the indexed key of an element.
+     * @return This IndexedResult
+     */
+    public IndexedResult<T> withIndex(String name, ToIntFunction<? super T> key) {
+        secondary.put(name, build(values, key));
+        return this;
+    }
+
+    /**
+     * Returns the element with the given id.
+     *
+     * @param id The id to look up.
+     * @return The element, or null when no element has that id
+     */
+    public T get(int id) {
+        int row = primary.first(id);
+        return row < 0 ? null : values.get(row);
+    }
+
+    /**
+     * Checks whether an element with the given id is present.
+     *
+     * @param id The id to look up.
+     * @return True if an element has that id
+     */
+    public boolean contains(int id) {
+        return primary.first(id) >= 0;
+    }
+
+    /**
+     * Returns every element whose key in the named secondary index equals the given key.
+     *
+     * @param index The name passed to {@link #withIndex(String, ToIntFunction)}.
+     * @param key   The key to look up.
+     * @return The matching elements in fetch order; empty when none match
+     */
+    public List<T> lookup(String index, int key) {
+        IntRowIndex rows = secondary.get(index);
+        if (rows == null) {
+            throw new IllegalArgumentException("No index named " + index);
+        }
+        int[] matches = rows.rows(key);
+        if (matches.length == 0) {
+            return Collections.emptyList();
+        }
+        List<T> result = new ArrayList<>(matches.length);
+        for (int row : matches) {
+            result.add(values.get(row));
+        }
+        return result;
+    }
+
+    /**
+     * Returns the number of distinct keys in the named secondary index.
+     *
+     * @param index The name passed to {@link #withIndex(String, ToIntFunction)}.
+     * @return The distinct key count
+     */
+    public int keyCount(String index) {
+        IntRowIndex rows = secondary.get(index);
+        if (rows == null) {
+            throw new IllegalArgumentException("No index named " + index);
+        }
+        return rows.keyCount();
+    }
+
+    /**
+     * Returns all elements in fetch order.
+     *
+     * @return An unmodifiable list of the elements
+     */
+    public List<T> values() {
+        return values;
+    }
+
+    /**
+     * Returns the number of elements.
+     *
+     * @return The element count
+     */
+    public int size() {
+        return values.size();
+    }
+
+    private static <T> IntRowIndex build(List<T> values, ToIntFunction<? super T> key) {
+        IntRowIndex index = new IntRowIndex(values.size());
+        for (int row = 0; row < values.size(); row++) {
+            index.add(key.applyAsInt(values.get(row)), row);
+        }
+        return index;
+    }
+}
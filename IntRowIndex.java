@@ -0,0 +1,105 @@
+package com.softserve.taf.services.common;
+
+import java.util.Arrays;
+
+/**
+ * This class maps primitive int keys to the rows holding them, using open addressing over int arrays.
+ * Keys are never boxed. A key may map to several rows; the rows of one key are chained in insertion order.
+ * @since 18Oct2026
+ */
+public class IntRowIndex {
+
+    private static final int EMPTY = -1;
+
+    private final int[] keys;
+    private final int[] heads;
+    private final int[] tails;
+    private final int[] counts;
+    private final int[] next;
+    private final int mask;
+    private int distinctKeys;
+
+    /**
+     * Constructs a new IntRowIndex sized for the given number of rows.
+     *
+     * @param rows The number of rows that will be added.
+     */
+    public IntRowIndex(int rows) {
+        int slots = Integer.highestOneBit(Math.max(rows * 2, 2) - 1) << 1;
+        this.keys = new int[slots];
+        this.heads = new int[slots];
+        this.tails = new int[slots];
+        this.counts = new int[slots];
+        this.next = new int[rows];
+        this.mask = slots - 1;
+        Arrays.fill(heads, EMPTY);
+        Arrays.fill(next, EMPTY);
+    }
+
+    /**
+     * Adds a row under the given key.
+     *
+     * @param key The key of the row.
+     * @param row The 0-based row, lower than the size passed to the constructor.
+     * @return The number of rows held by the key after adding this one
+     */
+    public int add(int key, int row) {
+        int slot = slotOf(key);
+        if (heads[slot] == EMPTY) {
+            keys[slot] = key;
+            heads[slot] = row;
+            distinctKeys++;
+        } else {
+            next[tails[slot]] = row;
+        }
+        tails[slot] = row;
+        return ++counts[slot];
+    }
+
+    /**
+     * Returns the first row added under the given key.
+     *
+     * @param key The key to look up.
+     * @return The first row, or -1 when the key is absent
+     */
+    public int first(int key) {
+        return heads[slotOf(key)];
+    }
+
+    /**
+     * Returns every row added under the given key in insertion order.
+     *
+     * @param key The key to look up.
+     * @return The rows of the key; empty when the key is absent
+     */
+    public int[] rows(int key) {
+        int slot = slotOf(key);
+        int[] rows = new int[counts[slot]];
+        for (int row = heads[slot], i = 0; row != EMPTY; row = next[row]) {
+            rows[i++] = row;
+        }
+        return rows;
+    }
+
+    /**
+     * Returns the number of distinct keys in the index.
+     *
+     * @return The distinct key count
+     */
+    public int keyCount() {
+        return distinctKeys;
+    }
+
+    private int slotOf(int key) {
+        int slot = mix(key) & mask;
+        while (heads[slot] != EMPTY && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private static int mix(int key) {
+        int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
@@ -0,0 +1,87 @@
+package com.softserve.taf.services.common;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * This class is the Jackson implementation of JsonCodec.
+ * Its ObjectReader and ObjectWriter are bound to the DTO type once and reused for every call,
+ * so no type resolution or mapper lookup happens per request. Pass an ObjectMapper with the
+ * Afterburner or Blackbird module registered to replace reflection with generated accessors.
+ * @since 18Oct2026
+ *
+ * @param <T> The DTO type handled by this codec
+ */
+public class JacksonCodec<T> implements JsonCodec<T> {
+
+    private static final ObjectMapper DEFAULT_MAPPER = new ObjectMapper().findAndRegisterModules();
+    private static final SerializationBufferPool BUFFERS = SerializationBufferPool.shared();
+
+    private final ObjectReader reader;
+    private final ObjectReader listReader;
+    private final ObjectWriter writer;
+
+    /**
+     * Constructs a new JacksonCodec for the given type using the default ObjectMapper.
+     *
+     * @param type The DTO class handled by this codec.
+     */
+    public JacksonCodec(Class<T> type) {
+        this(DEFAULT_MAPPER, type);
+    }
+
+    /**
+     * Constructs a new JacksonCodec for the given type using the given ObjectMapper.
+     *
+     * @param mapper The ObjectMapper providing configuration and modules.
+     * @param type   The DTO class handled by this codec.
+     */
+    public JacksonCodec(ObjectMapper mapper, Class<T> type) {
+        this.reader = mapper.readerFor(type);
+        this.listReader = mapper.readerFor(mapper.getTypeFactory().constructCollectionType(List.class, type));
+        this.writer = mapper.writerFor(type);
+    }
+
+    @Override
+    public EncodedBody encode(T value) {
+        SerializationBufferPool.Buffer buffer = BUFFERS.borrow();
+        try {
+            writer.writeValue(buffer, value);
+            return EncodedBody.of(buffer.toByteArray());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            BUFFERS.release(buffer);
+        }
+    }
+
+    @Override
+    public T read(byte[] json) {
+        try {
+            return reader.readValue(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public List<T> readList(byte[] json) {
+        try {
+            return Collections.unmodifiableList(listReader.readValue(json));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public Stream<T> stream(InputStream json) {
+        return new JsonArrayIterator<T>(json, reader).stream();
+    }
+}
@@ -0,0 +1,93 @@
+package com.softserve.taf.services.common;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * This class iterates over the elements of a top-level JSON array read from an input stream.
+ * Elements are bound one at a time, so only the current element is held in memory.
+ * @since 18Oct2026
+ *
+ * @param <T> The type each array element is bound to
+ */
+public class JsonArrayIterator<T> implements Iterator<T>, Closeable {
+
+    private final JsonParser parser;
+    private final ObjectReader reader;
+    private JsonToken current;
+
+    /**
+     * Constructs a new JsonArrayIterator positioned at the first element of the array.
+     *
+     * @param stream The input stream containing a JSON array.
+     * @param reader The ObjectReader bound to the element type.
+     */
+    public JsonArrayIterator(InputStream stream, ObjectReader reader) {
+        this.reader = reader;
+        try {
+            this.parser = reader.getFactory().createParser(stream);
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                parser.close();
+                throw new IllegalStateException("Expected JSON array but was " + parser.currentToken());
+            }
+            this.current = parser.nextToken();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        return current != null && current != JsonToken.END_ARRAY;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        try {
+            T value = reader.readValue(parser);
+            current = parser.nextToken();
+            return value;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Wraps this iterator into a sequential stream that closes the parser when the stream is closed.
+     *
+     * @return A stream of the remaining array elements
+     */
+    public Stream<T> stream() {
+        return StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED | Spliterator.NONNULL),
+                false)
+            .onClose(this::closeQuietly);
+    }
+
+    @Override
+    public void close() throws IOException {
+        parser.close();
+    }
+
+    private void closeQuietly() {
+        try {
+            close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,271 @@
+package com.softserve.taf.services.common;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * This class publishes the elements of a JSON array response as they are parsed.
+ * The body is fed chunk by chunk into a non-blocking parser and every complete array element is decoded
+ * on its own. A new chunk is requested from the body only when all parsed elements have been delivered
+ * and the subscriber still has demand, so backpressure reaches the connection. The request is sent for
+ * each subscriber when it first requests an element.
+ * @since 18Oct2026
+ *
+ * @param <T> The type each array element is decoded to
+ */
+public class JsonArrayPublisher<T> implements Flow.Publisher<T> {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final Supplier<CompletableFuture<Flow.Publisher<List<ByteBuffer>>>> body;
+    private final Function<byte[], ? extends T> decoder;
+
+    /**
+     * Constructs a new JsonArrayPublisher.
+     *
+     * @param body    The call returning the unread response body; started once per subscriber.
+     * @param decoder The function decoding the UTF-8 JSON of one array element.
+     */
+    public JsonArrayPublisher(Supplier<CompletableFuture<Flow.Publisher<List<ByteBuffer>>>> body,
+                              Function<byte[], ? extends T> decoder) {
+        this.body = body;
+        this.decoder = decoder;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super T> subscriber) {
+        subscriber.onSubscribe(new ArraySubscription(subscriber));
+    }
+
+    private final class ArraySubscription implements Flow.Subscription, Flow.Subscriber<List<ByteBuffer>> {
+
+        private final Flow.Subscriber<? super T> downstream;
+        private final Queue<T> parsed = new ConcurrentLinkedQueue<>();
+        private final AtomicLong requested = new AtomicLong();
+        private final AtomicInteger wip = new AtomicInteger();
+        private final AtomicBoolean started = new AtomicBoolean();
+        private final AtomicBoolean chunkRequested = new AtomicBoolean();
+        private volatile Flow.Subscription upstream;
+        private volatile boolean cancelled;
+        private volatile boolean done;
+        private volatile Throwable error;
+        private boolean terminated;
+
+        private JsonParser parser;
+        private byte[] pending = new byte[8192];
+        private long pendingStart;
+        private int pendingLength;
+        private int depth = -1;
+        private long elementStart;
+
+        private ArraySubscription(Flow.Subscriber<? super T> downstream) {
+            this.downstream = downstream;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                fail(new IllegalArgumentException("Requested " + n + " elements"));
+                cancelUpstream();
+                return;
+            }
+            requested.accumulateAndGet(n, (current, added) -> current + added < 0 ? Long.MAX_VALUE : current + added);
+            if (started.compareAndSet(false, true)) {
+                CompletableFuture<Flow.Publisher<List<ByteBuffer>>> response;
+                try {
+                    response = body.get();
+                } catch (RuntimeException e) {
+                    fail(e);
+                    return;
+                }
+                response.whenComplete((publisher, failure) -> {
+                    if (failure != null) {
+                        fail(failure instanceof CompletionException ? failure.getCause() : failure);
+                    } else {
+                        publisher.subscribe(this);
+                    }
+                });
+            }
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            cancelUpstream();
+        }
+
+        private void cancelUpstream() {
+            Flow.Subscription subscription = upstream;
+            if (subscription != null) {
+                subscription.cancel();
+            }
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            try {
+                parser = JSON_FACTORY.createNonBlockingByteArrayParser();
+            } catch (IOException e) {
+                subscription.cancel();
+                fail(e);
+                return;
+            }
+            upstream = subscription;
+            if (cancelled || error != null) {
+                subscription.cancel();
+                return;
+            }
+            drain();
+        }
+
+        @Override
+        public void onNext(List<ByteBuffer> chunks) {
+            chunkRequested.set(false);
+            try {
+                for (ByteBuffer chunk : chunks) {
+                    byte[] bytes = new byte[chunk.remaining()];
+                    chunk.get(bytes);
+                    append(bytes);
+                    ((ByteArrayFeeder) parser.getNonBlockingInputFeeder()).feedInput(bytes, 0, bytes.length);
+                    parseAvailable();
+                }
+            } catch (IOException | RuntimeException e) {
+                upstream.cancel();
+                fail(e);
+                return;
+            }
+            drain();
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            fail(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            if (depth != 0) {
+                fail(new IllegalStateException("Response body ended before the JSON array was closed"));
+                return;
+            }
+            done = true;
+            drain();
+        }
+
+        private void parseAvailable() throws IOException {
+            JsonToken token;
+            while ((token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+                long end = parser.currentLocation().getByteOffset();
+                if (depth == -1) {
+                    if (token != JsonToken.START_ARRAY) {
+                        throw new IllegalStateException("Expected JSON array but was " + token);
+                    }
+                    depth = 1;
+                    elementStart = end;
+                } else if (token.isStructStart()) {
+                    depth++;
+                } else if (token.isStructEnd()) {
+                    if (--depth == 1) {
+                        emit(end);
+                    }
+                } else if (depth == 1) {
+                    emit(end);
+                }
+            }
+            discardBefore(elementStart);
+        }
+
+        private void emit(long end) {
+            int from = (int) (elementStart - pendingStart);
+            int to = (int) (end - pendingStart);
+            while (from < to && (pending[from] == ',' || Character.isWhitespace(pending[from]))) {
+                from++;
+            }
+            parsed.offer(decoder.apply(Arrays.copyOfRange(pending, from, to)));
+            elementStart = end;
+        }
+
+        private void append(byte[] bytes) {
+            if (pendingLength + bytes.length > pending.length) {
+                pending = Arrays.copyOf(pending, Math.max(pending.length * 2, pendingLength + bytes.length));
+            }
+            System.arraycopy(bytes, 0, pending, pendingLength, bytes.length);
+            pendingLength += bytes.length;
+        }
+
+        private void discardBefore(long offset) {
+            int drop = (int) Math.min(offset - pendingStart, pendingLength);
+            if (drop > 0) {
+                System.arraycopy(pending, drop, pending, 0, pendingLength - drop);
+                pendingLength -= drop;
+                pendingStart += drop;
+            }
+        }
+
+        private void fail(Throwable throwable) {
+            if (error == null) {
+                error = throwable;
+            }
+            done = true;
+            drain();
+        }
+
+        private void drain() {
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+            int missed = 1;
+            do {
+                long demand = requested.get();
+                long emitted = 0;
+                while (emitted != demand && !cancelled) {
+                    T item = parsed.poll();
+                    if (item == null) {
+                        break;
+                    }
+                    downstream.onNext(item);
+                    emitted++;
+                }
+                if (emitted > 0 && demand != Long.MAX_VALUE) {
+                    requested.addAndGet(-emitted);
+                }
+                if (cancelled) {
+                    parsed.clear();
+                    return;
+                }
+                if ((parsed.isEmpty() || error != null) && done && !terminated) {
+                    terminated = true;
+                    if (error != null) {
+                        downstream.onError(error);
+                    } else {
+                        downstream.onComplete();
+                    }
+                    return;
+                }
+                Flow.Subscription subscription = upstream;
+                if (parsed.isEmpty() && !done && requested.get() > 0 && subscription != null
+                    && chunkRequested.compareAndSet(false, true)) {
+                    subscription.request(1);
+                }
+                missed = wip.addAndGet(-missed);
+            } while (missed != 0);
+        }
+    }
+}
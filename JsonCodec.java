@@ -0,0 +1,58 @@
+package com.softserve.taf.services.common;
+
+import java.io.InputStream;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * This interface binds a single DTO type to and from JSON.
+ * Endpoints use it for every request and response body, so a faster implementation
+ * (a pre-bound Jackson codec, Afterburner/Blackbird, or generated code) can be plugged in per endpoint.
+ * @since 18Oct2026
+ *
+ * @param <T> The DTO type handled by this codec
+ */
+public interface JsonCodec<T> {
+
+    /**
+     * Serializes the given value into a ready-to-send body.
+     *
+     * @param value The value to serialize.
+     * @return The encoded body
+     */
+    EncodedBody encode(T value);
+
+    /**
+     * Deserializes a single value from JSON.
+     *
+     * @param json The UTF-8 encoded JSON.
+     * @return The deserialized value
+     */
+    T read(byte[] json);
+
+    /**
+     * Deserializes a JSON array into an unmodifiable list.
+     *
+     * @param json The UTF-8 encoded JSON array.
+     * @return The deserialized values
+     */
+    List<T> readList(byte[] json);
+
+    /**
+     * Streams the elements of a JSON array, binding them one at a time.
+     *
+     * @param json The input stream containing a JSON array.
+     * @return A stream that closes the input when it is closed
+     */
+    Stream<T> stream(InputStream json);
+
+    /**
+     * Serializes the given value to JSON.
+     *
+     * @param value The value to serialize.
+     * @return The UTF-8 encoded JSON
+     */
+    default byte[] write(T value) {
+        return encode(value).toByteArray();
+    }
+}
@@ -0,0 +1,215 @@
+package com.softserve.taf.services.common;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * This class keeps endpoint measurements in memory, one series per endpoint, method and path template.
+ * @since 18Oct2026
+ */
+public class LocalEndpointMetrics implements EndpointMetrics {
+
+    private static final LocalEndpointMetrics SHARED = new LocalEndpointMetrics();
+
+    private final ConcurrentMap<String, CallStats> series = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, LongAdder> transitions = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the registry used by endpoints that have no registry of their own.
+     *
+     * @return The shared LocalEndpointMetrics
+     */
+    public static LocalEndpointMetrics shared() {
+        return SHARED;
+    }
+
+    @Override
+    public void recordCall(String endpoint, String method, String path, int status,
+                           long latencyNanos, long bytesSent, long bytesReceived) {
+        CallStats stats = getStats(endpoint, method, path);
+        stats.latency.record(latencyNanos);
+        stats.bytesSent.add(bytesSent);
+        stats.bytesReceived.add(bytesReceived);
+        stats.statusCounts.computeIfAbsent(status, code -> new LongAdder()).increment();
+    }
+
+    @Override
+    public void recordDeserialization(String endpoint, String method, String path, long nanos) {
+        getStats(endpoint, method, path).deserialization.record(nanos);
+    }
+
+    @Override
+    public void recordRetry(String endpoint, String method, String path, int status) {
+        getStats(endpoint, method, path).retries.increment();
+    }
+
+    @Override
+    public void recordRejection(String endpoint, String method, String path) {
+        getStats(endpoint, method, path).rejections.increment();
+    }
+
+    @Override
+    public void recordThrottle(String endpoint, String method, String path, long nanos) {
+        getStats(endpoint, method, path).throttle.record(nanos);
+    }
+
+    @Override
+    public void recordCircuitTransition(String circuit, String from, String to) {
+        transitions.computeIfAbsent(circuit + ' ' + from + "->" + to, key -> new LongAdder()).increment();
+    }
+
+    /**
+     * Returns how many times the given circuit breaker moved between the given states.
+     *
+     * @param circuit The name of the circuit breaker.
+     * @param from    The previous state.
+     * @param to      The new state.
+     * @return The transition count
+     */
+    public long getCircuitTransitionCount(String circuit, String from, String to) {
+        LongAdder count = transitions.get(circuit + ' ' + from + "->" + to);
+        return count != null ? count.sum() : 0;
+    }
+
+    /**
+     * Returns the series for the given tags, creating an empty one when nothing was recorded yet.
+     *
+     * @param endpoint The simple name of the endpoint class.
+     * @param method   The HTTP method.
+     * @param path     The path template.
+     * @return The CallStats of the series
+     */
+    public CallStats getStats(String endpoint, String method, String path) {
+        return series.computeIfAbsent(endpoint + ' ' + method + ' ' + path, key -> new CallStats());
+    }
+
+    /**
+     * Returns every recorded series keyed by "endpoint method path".
+     *
+     * @return An unmodifiable view of all series
+     */
+    public Map<String, CallStats> getAllStats() {
+        return Collections.unmodifiableMap(series);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder report = new StringBuilder();
+        series.forEach((key, stats) -> report.append(key).append(' ').append(stats).append(System.lineSeparator()));
+        return report.toString();
+    }
+
+    /**
+     * The measurements of one endpoint, method and path template.
+     */
+    public static final class CallStats {
+
+        private final LatencyHistogram latency = new LatencyHistogram();
+        private final LatencyHistogram deserialization = new LatencyHistogram();
+        private final LatencyHistogram throttle = new LatencyHistogram();
+        private final LongAdder bytesSent = new LongAdder();
+        private final LongAdder bytesReceived = new LongAdder();
+        private final LongAdder retries = new LongAdder();
+        private final LongAdder rejections = new LongAdder();
+        private final ConcurrentMap<Integer, LongAdder> statusCounts = new ConcurrentHashMap<>();
+
+        /**
+         * Returns the histogram of request latencies.
+         *
+         * @return The latency histogram, in nanoseconds
+         */
+        public LatencyHistogram getLatency() {
+            return latency;
+        }
+
+        /**
+         * Returns the histogram of deserialization times.
+         *
+         * @return The deserialization histogram, in nanoseconds
+         */
+        public LatencyHistogram getDeserialization() {
+            return deserialization;
+        }
+
+        /**
+         * Returns the histogram of the time requests waited for a rate limiter.
+         *
+         * @return The throttle histogram, in nanoseconds; only delayed requests are recorded
+         */
+        public LatencyHistogram getThrottle() {
+            return throttle;
+        }
+
+        /**
+         * Returns the total size of the request bodies.
+         *
+         * @return The number of bytes sent
+         */
+        public long getBytesSent() {
+            return bytesSent.sum();
+        }
+
+        /**
+         * Returns the total size of the response bodies.
+         *
+         * @return The number of bytes received
+         */
+        public long getBytesReceived() {
+            return bytesReceived.sum();
+        }
+
+        /**
+         * Returns how many requests were re-sent after a transient failure.
+         *
+         * @return The retry count
+         */
+        public long getRetryCount() {
+            return retries.sum();
+        }
+
+        /**
+         * Returns how many calls were rejected by a bulkhead or an open circuit without being sent.
+         *
+         * @return The rejection count
+         */
+        public long getRejectionCount() {
+            return rejections.sum();
+        }
+
+        /**
+         * Returns how many responses had the given status code.
+         *
+         * @param status The HTTP status code.
+         * @return The response count
+         */
+        public long getStatusCount(int status) {
+            LongAdder count = statusCounts.get(status);
+            return count != null ? count.sum() : 0;
+        }
+
+        @Override
+        public String toString() {
+            return String.format(
+                "calls=%d p50=%dus p99=%dus max=%dus deser.p99=%dus sent=%dB received=%dB retries=%d rejected=%d"
+                    + " statuses=%s",
+                latency.getCount(),
+                micros(latency.getValueAtPercentile(50)),
+                micros(latency.getValueAtPercentile(99)),
+                micros(latency.getMax()),
+                micros(deserialization.getValueAtPercentile(99)),
+                getBytesSent(),
+                getBytesReceived(),
+                getRetryCount(),
+                getRejectionCount(),
+                statusCounts);
+        }
+
+        private static long micros(long nanos) {
+            return TimeUnit.NANOSECONDS.toMicros(nanos);
+        }
+    }
+}
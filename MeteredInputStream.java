@@ -0,0 +1,72 @@
+package com.softserve.taf.services.common;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.function.LongConsumer;
+
+/**
+ * This class counts the bytes read from a streamed response body.
+ * The count is reported once, when the stream is closed, so a call that streams its body can be
+ * recorded with the bytes and time it actually took to read it.
+ * @since 18Oct2026
+ */
+public class MeteredInputStream extends FilterInputStream {
+
+    private final LongConsumer onClose;
+    private long count;
+    private boolean closed;
+
+    /**
+     * Constructs a new MeteredInputStream.
+     *
+     * @param body    The response body stream.
+     * @param onClose The consumer receiving the number of bytes read when the stream is closed.
+     */
+    public MeteredInputStream(InputStream body, LongConsumer onClose) {
+        super(body);
+        this.onClose = onClose;
+    }
+
+    @Override
+    public int read() throws IOException {
+        int read = super.read();
+        if (read != -1) {
+            count++;
+        }
+        return read;
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int length) throws IOException {
+        int read = super.read(buffer, offset, length);
+        if (read > 0) {
+            count += read;
+        }
+        return read;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        long skipped = super.skip(n);
+        count += skipped;
+        return skipped;
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            super.close();
+        } finally {
+            if (!closed) {
+                closed = true;
+                onClose.accept(count);
+            }
+        }
+    }
+}
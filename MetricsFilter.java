@@ -0,0 +1,62 @@
+package com.softserve.taf.services.common;
+
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Supplier;
+
+/**
+ * This class is a REST-assured filter that reports every request of an endpoint to its EndpointMetrics.
+ * The filter reads the response body, so the latency covers its transfer and the size counts the bytes
+ * actually received, chunked bodies included. Calls that stream their body are sent without this filter
+ * and recorded by the endpoint through a MeteredInputStream.
+ * @since 18Oct2026
+ */
+public class MetricsFilter implements Filter {
+
+    private final String endpoint;
+    private final Supplier<EndpointMetrics> metrics;
+
+    /**
+     * Constructs a new MetricsFilter for the given endpoint.
+     *
+     * @param endpoint The simple name of the endpoint class used as a tag.
+     * @param metrics  The supplier of the registry currently configured on the endpoint.
+     */
+    public MetricsFilter(String endpoint, Supplier<EndpointMetrics> metrics) {
+        this.endpoint = endpoint;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        long start = System.nanoTime();
+        Response response = ctx.next(requestSpec, responseSpec);
+        byte[] body = response.asByteArray();
+        long latency = System.nanoTime() - start;
+        metrics.get().recordCall(
+            endpoint,
+            requestSpec.getMethod(),
+            requestSpec.getUserDefinedPath(),
+            response.getStatusCode(),
+            latency,
+            sizeOf(requestSpec.getBody()),
+            body.length);
+        return response;
+    }
+
+    private static long sizeOf(Object body) {
+        if (body instanceof byte[]) {
+            return ((byte[]) body).length;
+        }
+        if (body instanceof String) {
+            return ((String) body).getBytes(StandardCharsets.UTF_8).length;
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,92 @@
+package com.softserve.taf.services.common;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+
+/**
+ * This class is an append-only column of primitive ints stored in a direct buffer outside the Java heap.
+ * The buffer doubles when it is full; the memory is released when the column becomes unreachable.
+ * @since 18Oct2026
+ */
+public class OffHeapIntColumn {
+
+    private IntBuffer values;
+    private int size;
+
+    /**
+     * Constructs a new OffHeapIntColumn.
+     *
+     * @param initialCapacity The number of values the column holds before it first grows.
+     */
+    public OffHeapIntColumn(int initialCapacity) {
+        this.values = allocate(Math.max(initialCapacity, 16));
+    }
+
+    /**
+     * Appends a value to the end of the column.
+     *
+     * @param value The value to append.
+     * @return The row the value was stored at
+     */
+    public int append(int value) {
+        if (size == values.capacity()) {
+            IntBuffer grown = allocate(values.capacity() * 2);
+            IntBuffer filled = values.duplicate();
+            filled.position(0);
+            filled.limit(size);
+            grown.put(filled);
+            values = grown;
+        }
+        values.put(size, value);
+        return size++;
+    }
+
+    /**
+     * Replaces the value stored at the given row.
+     *
+     * @param row   The 0-based row.
+     * @param value The new value.
+     */
+    public void set(int row, int value) {
+        if (row < 0 || row >= size) {
+            throw new IndexOutOfBoundsException("Row " + row + " of " + size);
+        }
+        values.put(row, value);
+    }
+
+    /**
+     * Returns the value stored at the given row.
+     *
+     * @param row The 0-based row.
+     * @return The value at the row
+     */
+    public int get(int row) {
+        if (row < 0 || row >= size) {
+            throw new IndexOutOfBoundsException("Row " + row + " of " + size);
+        }
+        return values.get(row);
+    }
+
+    /**
+     * Returns the number of values in the column.
+     *
+     * @return The column size
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the number of off-heap bytes reserved by the column.
+     *
+     * @return The reserved capacity in bytes
+     */
+    public long offHeapBytes() {
+        return (long) values.capacity() * Integer.BYTES;
+    }
+
+    private static IntBuffer allocate(int capacity) {
+        return ByteBuffer.allocateDirect(capacity * Integer.BYTES).order(ByteOrder.nativeOrder()).asIntBuffer();
+    }
+}
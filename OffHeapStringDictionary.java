@@ -0,0 +1,167 @@
+package com.softserve.taf.services.common;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * This class dictionary-encodes strings into dense int codes and keeps their UTF-8 bytes in a direct buffer.
+ * Repeated values are stored once. The lookup table is an open-addressing hash table that also lives
+ * off-heap, so neither encoding nor lookups keep the distinct strings on the heap; strings are decoded
+ * only when they are read.
+ * @since 18Oct2026
+ */
+public class OffHeapStringDictionary {
+
+    /**
+     * The code returned for a value that is not in the dictionary.
+     */
+    public static final int ABSENT = -1;
+
+    private final OffHeapIntColumn offsets = new OffHeapIntColumn(1024);
+    private final OffHeapIntColumn hashes = new OffHeapIntColumn(1024);
+    private ByteBuffer bytes;
+    private OffHeapIntColumn table;
+    private int mask;
+    private boolean frozen;
+
+    /**
+     * Constructs a new OffHeapStringDictionary.
+     *
+     * @param initialBytes The number of UTF-8 bytes the dictionary holds before it first grows.
+     */
+    public OffHeapStringDictionary(int initialBytes) {
+        this.bytes = ByteBuffer.allocateDirect(Math.max(initialBytes, 1024));
+        offsets.append(0);
+        resize(1024);
+    }
+
+    /**
+     * Returns the code of the given value, adding the value when it is not in the dictionary yet.
+     *
+     * @param value The value to encode; must not be null.
+     * @return The code of the value
+     */
+    public int encode(String value) {
+        if (frozen) {
+            throw new IllegalStateException("Dictionary is frozen");
+        }
+        byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+        int hash = value.hashCode();
+        int slot = find(hash, utf8);
+        int existing = table.get(slot) - 1;
+        if (existing != ABSENT) {
+            return existing;
+        }
+        if (bytes.remaining() < utf8.length) {
+            int capacity = Math.max(bytes.capacity() * 2, bytes.position() + utf8.length);
+            ByteBuffer grown = ByteBuffer.allocateDirect(capacity);
+            bytes.flip();
+            grown.put(bytes);
+            bytes = grown;
+        }
+        bytes.put(utf8);
+        int added = offsets.append(bytes.position()) - 1;
+        hashes.append(hash);
+        table.set(slot, added + 1);
+        if (size() * 2 > table.size()) {
+            resize(table.size() * 2);
+        }
+        return added;
+    }
+
+    /**
+     * Decodes the value with the given code.
+     *
+     * @param code A code returned by {@link #encode(String)}.
+     * @return The decoded value
+     */
+    public String decode(int code) {
+        int start = offsets.get(code);
+        byte[] utf8 = new byte[offsets.get(code + 1) - start];
+        ByteBuffer view = bytes.duplicate();
+        view.position(start);
+        view.get(utf8);
+        return new String(utf8, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Returns the code of the given value without adding it.
+     * Comparing codes lets column scans match a value without decoding every row.
+     *
+     * @param value The value to look up.
+     * @return The code of the value, or {@link #ABSENT} when it is not in the dictionary
+     */
+    public int codeOf(String value) {
+        return table.get(find(value.hashCode(), value.getBytes(StandardCharsets.UTF_8))) - 1;
+    }
+
+    /**
+     * Stops accepting new values.
+     *
+     * @return This OffHeapStringDictionary
+     */
+    public OffHeapStringDictionary freeze() {
+        frozen = true;
+        return this;
+    }
+
+    /**
+     * Returns the number of distinct values in the dictionary.
+     *
+     * @return The dictionary size
+     */
+    public int size() {
+        return offsets.size() - 1;
+    }
+
+    /**
+     * Returns the number of off-heap bytes reserved by the dictionary.
+     *
+     * @return The reserved capacity in bytes
+     */
+    public long offHeapBytes() {
+        return bytes.capacity() + offsets.offHeapBytes() + hashes.offHeapBytes() + table.offHeapBytes();
+    }
+
+    private int find(int hash, byte[] utf8) {
+        for (int slot = mix(hash) & mask; ; slot = (slot + 1) & mask) {
+            int code = table.get(slot) - 1;
+            if (code == ABSENT || hashes.get(code) == hash && bytesEqual(code, utf8)) {
+                return slot;
+            }
+        }
+    }
+
+    private void resize(int slots) {
+        table = new OffHeapIntColumn(slots);
+        for (int i = 0; i < slots; i++) {
+            table.append(0);
+        }
+        mask = slots - 1;
+        for (int code = 0; code < size(); code++) {
+            int slot = mix(hashes.get(code)) & mask;
+            while (table.get(slot) != 0) {
+                slot = (slot + 1) & mask;
+            }
+            table.set(slot, code + 1);
+        }
+    }
+
+    private boolean bytesEqual(int code, byte[] utf8) {
+        int start = offsets.get(code);
+        if (offsets.get(code + 1) - start != utf8.length) {
+            return false;
+        }
+        for (int i = 0; i < utf8.length; i++) {
+            if (bytes.get(start + i) != utf8[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int mix(int hash) {
+        int h = hash * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
@@ -0,0 +1,106 @@
+package com.softserve.taf.services.common;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.IntFunction;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * This class iterates over a paged collection resource, keeping a fixed number of pages requested ahead.
+ * Pages are fetched only as the iteration reaches them, and fetching stops at the first short page.
+ * @since 18Oct2026
+ *
+ * @param <T> The type of the page elements
+ */
+public class PagedIterator<T> implements Iterator<T> {
+
+    private final IntFunction<List<T>> pageFetcher;
+    private final EndpointExecutor executor;
+    private final int pageSize;
+    private final int prefetch;
+    private final Deque<CompletableFuture<List<T>>> pending = new ArrayDeque<>();
+    private Iterator<T> current = Collections.emptyIterator();
+    private int nextPage = 1;
+    private boolean lastPageSeen;
+
+    /**
+     * Constructs a new PagedIterator; no page is requested until the first element is needed.
+     *
+     * @param pageFetcher The function fetching a validated page by its 1-based number.
+     * @param executor    The executor running the page requests.
+     * @param pageSize    The number of elements requested per page.
+     * @param prefetch    The number of pages kept in flight ahead of the iteration.
+     */
+    public PagedIterator(IntFunction<List<T>> pageFetcher, EndpointExecutor executor, int pageSize, int prefetch) {
+        if (pageSize < 1 || prefetch < 1) {
+            throw new IllegalArgumentException("Page size and prefetch depth must be positive");
+        }
+        this.pageFetcher = pageFetcher;
+        this.executor = executor;
+        this.pageSize = pageSize;
+        this.prefetch = prefetch;
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (!current.hasNext()) {
+            requestAhead();
+            if (pending.isEmpty()) {
+                return false;
+            }
+            List<T> page = await(pending.poll());
+            if (page.size() < pageSize) {
+                lastPageSeen = true;
+                pending.forEach(future -> future.cancel(false));
+                pending.clear();
+            }
+            current = page.iterator();
+        }
+        return true;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return current.next();
+    }
+
+    /**
+     * Wraps this iterator into a lazily evaluated sequential stream.
+     *
+     * @return A stream of all elements across pages
+     */
+    public Stream<T> stream() {
+        return StreamSupport.stream(
+            Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED | Spliterator.NONNULL), false);
+    }
+
+    private void requestAhead() {
+        while (!lastPageSeen && pending.size() < prefetch) {
+            int page = nextPage++;
+            pending.add(executor.submit(() -> pageFetcher.apply(page)));
+        }
+    }
+
+    private static <T> List<T> await(CompletableFuture<List<T>> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+        }
+    }
+}
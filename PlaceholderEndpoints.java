@@ -0,0 +1,89 @@
+package com.softserve.taf.services.placeholder.endpoints;
+
+import io.restassured.specification.RequestSpecification;
+import java.util.function.Function;
+import com.softserve.taf.models.placeholder.comment.CommentDto;
+import com.softserve.taf.services.common.EndpointExecutor;
+import com.softserve.taf.services.common.RateLimiter;
+
+/**
+ * This class creates the placeholder endpoints sharing one specification and one execution mode.
+ * @since 18Oct2026
+ */
+public class PlaceholderEndpoints {
+
+    private final RequestSpecification specification;
+    private final EndpointExecutor executor;
+    private RateLimiter rateLimiter = RateLimiter.unlimited();
+
+    /**
+     * Constructs a new PlaceholderEndpoints factory with the given specification and executor.
+     *
+     * @param specification The RequestSpecification used for making HTTP requests.
+     * @param executor      The executor used for multi-item calls.
+     */
+    public PlaceholderEndpoints(RequestSpecification specification, EndpointExecutor executor) {
+        this.specification = specification;
+        this.executor = executor;
+    }
+
+    /**
+     * Creates a factory whose endpoints make multi-item calls one by one on the calling thread.
+     *
+     * @param specification The RequestSpecification used for making HTTP requests.
+     * @return A blocking PlaceholderEndpoints factory
+     */
+    public static PlaceholderEndpoints blocking(RequestSpecification specification) {
+        return new PlaceholderEndpoints(specification, EndpointExecutor.sameThread());
+    }
+
+    /**
+     * Creates a factory whose endpoints run each call of a multi-item request on a virtual thread.
+     *
+     * @param specification The RequestSpecification used for making HTTP requests.
+     * @param concurrency   The maximum number of calls in flight.
+     * @return A virtual-thread PlaceholderEndpoints factory
+     */
+    public static PlaceholderEndpoints virtualThreads(RequestSpecification specification, int concurrency) {
+        return new PlaceholderEndpoints(specification, EndpointExecutor.virtualThreads(concurrency));
+    }
+
+    /**
+     * Sets a rate limiter shared by every endpoint this factory creates afterwards.
+     *
+     * @param rateLimiter The RateLimiter shaping the combined traffic of the endpoints.
+     * @return This PlaceholderEndpoints factory
+     */
+    public PlaceholderEndpoints withRateLimiter(RateLimiter rateLimiter) {
+        this.rateLimiter = rateLimiter;
+        return this;
+    }
+
+    /**
+     * Creates a CommentEndpoint using this factory's specification, executor and rate limiter.
+     *
+     * @return A new CommentEndpoint
+     */
+    public CommentEndpoint comments() {
+        return new CommentEndpoint(specification).withExecutor(executor).withRateLimiter(rateLimiter);
+    }
+
+    /**
+     * Creates a UserEndpoint using this factory's specification, executor and rate limiter.
+     *
+     * @return A new UserEndpoint
+     */
+    public UserEndpoint users() {
+        return new UserEndpoint(specification).withExecutor(executor).withRateLimiter(rateLimiter);
+    }
+
+    /**
+     * Creates a join resolving comment authors through a UserEndpoint of this factory.
+     *
+     * @param authorKey The function returning the user ID of a comment's author.
+     * @return A new CommentAuthorJoin
+     */
+    public CommentAuthorJoin commentAuthors(Function<CommentDto, String> authorKey) {
+        return new CommentAuthorJoin(users(), authorKey);
+    }
+}
@@ -0,0 +1,336 @@
+package com.softserve.taf.services.placeholder.stub;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntFunction;
+
+/**
+ * This class is an in-process implementation of the /users and /comments placeholder contracts.
+ * Resources live in an in-memory store, so the endpoint layer can be benchmarked and load-tested
+ * without a live service. Every response can be delayed by a fixed latency plus random jitter.
+ * List resources accept json-server style field filters (e.g. ?postId=1), projection through _fields,
+ * and paging through _page/_limit or _start/_end.
+ * @since 18Oct2026
+ */
+public class PlaceholderStubServer implements AutoCloseable {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final TypeReference<Map<String, Object>> RECORD = new TypeReference<>() { };
+    private static final byte[] EMPTY_OBJECT = "{}".getBytes(StandardCharsets.UTF_8);
+
+    private final HttpServer server;
+    private final ExecutorService workers;
+    private final long latencyNanos;
+    private final long jitterNanos;
+
+    /**
+     * Starts a new stub server serving the given number of comments and users without added latency.
+     *
+     * @param datasetSize The number of comments and users in the initial dataset.
+     */
+    public PlaceholderStubServer(int datasetSize) {
+        this(datasetSize, datasetSize, Duration.ZERO, Duration.ZERO);
+    }
+
+    /**
+     * Starts a new stub server on an ephemeral local port.
+     *
+     * @param comments The number of comments in the initial dataset.
+     * @param users    The number of users in the initial dataset.
+     * @param latency  The delay added to every response.
+     * @param jitter   The upper bound of the random delay added on top of the latency.
+     */
+    public PlaceholderStubServer(int comments, int users, Duration latency, Duration jitter) {
+        this.latencyNanos = latency.toNanos();
+        this.jitterNanos = jitter.toNanos();
+        try {
+            this.server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        this.workers = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "placeholder-stub");
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.createContext("/comments", new Resource(comments, PlaceholderStubServer::comment)::handle);
+        server.createContext("/users", new Resource(users, PlaceholderStubServer::user)::handle);
+        server.setExecutor(workers);
+        server.start();
+    }
+
+    /**
+     * Returns the base URI of the running server.
+     *
+     * @return The base URI, without a trailing slash
+     */
+    public String getBaseUri() {
+        return "http://localhost:" + server.getAddress().getPort();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        workers.shutdown();
+    }
+
+    private void delay() {
+        long nanos = latencyNanos + (jitterNanos > 0 ? ThreadLocalRandom.current().nextLong(jitterNanos) : 0);
+        if (nanos <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(nanos / 1_000_000, (int) (nanos % 1_000_000));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static Map<String, Object> comment(int id) {
+        Map<String, Object> comment = new LinkedHashMap<>();
+        comment.put("postId", (id - 1) / 5 + 1);
+        comment.put("id", id);
+        comment.put("name", "comment name " + id);
+        comment.put("email", "author" + id + "@example.com");
+        comment.put("body", "comment body " + id);
+        return comment;
+    }
+
+    private static Map<String, Object> user(int id) {
+        Map<String, Object> user = new LinkedHashMap<>();
+        user.put("id", id);
+        user.put("name", "User " + id);
+        user.put("username", "user" + id);
+        user.put("email", "user" + id + "@example.com");
+        return user;
+    }
+
+    private static byte[] json(Object value) {
+        try {
+            return MAPPER.writeValueAsBytes(value);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static Map<String, Object> parse(byte[] body) {
+        try {
+            return MAPPER.readValue(body, RECORD);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void respond(HttpExchange exchange, int status, byte[] body) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        if (status == 304) {
+            exchange.sendResponseHeaders(status, -1);
+        } else {
+            exchange.sendResponseHeaders(status, body.length);
+            exchange.getResponseBody().write(body);
+        }
+        exchange.close();
+    }
+
+    /**
+     * A collection resource and its items, e.g. /comments and /comments/{commentID}.
+     */
+    private final class Resource {
+
+        private final ConcurrentNavigableMap<Integer, byte[]> items = new ConcurrentSkipListMap<>();
+        private final AtomicInteger nextId = new AtomicInteger();
+        private final AtomicLong version = new AtomicLong();
+        private volatile Listing listing;
+
+        private Resource(int size, IntFunction<Map<String, Object>> generator) {
+            for (int id = 1; id <= size; id++) {
+                items.put(id, json(generator.apply(id)));
+            }
+            nextId.set(size);
+        }
+
+        private void handle(HttpExchange exchange) throws IOException {
+            delay();
+            String[] segments = exchange.getRequestURI().getPath().split("/");
+            String method = exchange.getRequestMethod();
+            if (segments.length == 2) {
+                if ("GET".equals(method)) {
+                    list(exchange);
+                } else if ("POST".equals(method)) {
+                    create(exchange);
+                } else {
+                    respond(exchange, 405, EMPTY_OBJECT);
+                }
+                return;
+            }
+            Integer id = parseId(segments[2]);
+            if (segments.length != 3 || id == null) {
+                respond(exchange, 404, EMPTY_OBJECT);
+            } else if ("GET".equals(method)) {
+                byte[] item = items.get(id);
+                respond(exchange, item != null ? 200 : 404, item != null ? item : EMPTY_OBJECT);
+            } else if ("PUT".equals(method)) {
+                update(exchange, id);
+            } else {
+                respond(exchange, 405, EMPTY_OBJECT);
+            }
+        }
+
+        private void list(HttpExchange exchange) throws IOException {
+            Map<String, String> query = query(exchange);
+            if (!query.isEmpty()) {
+                respond(exchange, 200, render(select(query)));
+                return;
+            }
+            Listing current = listing();
+            exchange.getResponseHeaders().set("ETag", current.etag);
+            if (current.etag.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+                respond(exchange, 304, EMPTY_OBJECT);
+            } else {
+                respond(exchange, 200, current.body);
+            }
+        }
+
+        private void create(HttpExchange exchange) throws IOException {
+            Map<String, Object> item = MAPPER.readValue(exchange.getRequestBody(), RECORD);
+            int id = nextId.incrementAndGet();
+            item.put("id", id);
+            byte[] body = json(item);
+            items.put(id, body);
+            version.incrementAndGet();
+            respond(exchange, 201, body);
+        }
+
+        private void update(HttpExchange exchange, int id) throws IOException {
+            if (!items.containsKey(id)) {
+                respond(exchange, 404, EMPTY_OBJECT);
+                return;
+            }
+            Map<String, Object> item = MAPPER.readValue(exchange.getRequestBody(), RECORD);
+            item.put("id", id);
+            byte[] body = json(item);
+            items.put(id, body);
+            version.incrementAndGet();
+            respond(exchange, 200, body);
+        }
+
+        private Listing listing() {
+            long current = version.get();
+            Listing cached = listing;
+            if (cached == null || cached.version != current) {
+                cached = new Listing(current, render(new ArrayList<>(items.values())));
+                listing = cached;
+            }
+            return cached;
+        }
+
+        private List<byte[]> select(Map<String, String> query) {
+            List<byte[]> all = filter(new ArrayList<>(items.values()), query);
+            int start = 0;
+            int end = all.size();
+            if (query.containsKey("_page") || query.containsKey("_limit")) {
+                int limit = Integer.parseInt(query.getOrDefault("_limit", "10"));
+                start = (Integer.parseInt(query.getOrDefault("_page", "1")) - 1) * limit;
+                end = start + limit;
+            } else if (query.containsKey("_start") || query.containsKey("_end")) {
+                start = Integer.parseInt(query.getOrDefault("_start", "0"));
+                end = Integer.parseInt(query.getOrDefault("_end", String.valueOf(all.size())));
+            }
+            start = Math.max(0, Math.min(start, all.size()));
+            return all.subList(start, Math.max(start, Math.min(end, all.size())));
+        }
+
+        private List<byte[]> filter(List<byte[]> bodies, Map<String, String> query) {
+            Map<String, String> filters = new LinkedHashMap<>(query);
+            filters.keySet().removeIf(key -> key.startsWith("_"));
+            String fields = query.get("_fields");
+            if (filters.isEmpty() && fields == null) {
+                return bodies;
+            }
+            List<byte[]> selected = new ArrayList<>();
+            for (byte[] body : bodies) {
+                Map<String, Object> item = parse(body);
+                boolean matches = filters.entrySet().stream()
+                    .allMatch(filter -> filter.getValue().equals(String.valueOf(item.get(filter.getKey()))));
+                if (matches) {
+                    if (fields != null) {
+                        item.keySet().retainAll(List.of(fields.split(",")));
+                    }
+                    selected.add(fields != null ? json(item) : body);
+                }
+            }
+            return selected;
+        }
+
+        private Map<String, String> query(HttpExchange exchange) {
+            Map<String, String> query = new LinkedHashMap<>();
+            String raw = exchange.getRequestURI().getRawQuery();
+            if (raw == null || raw.isEmpty()) {
+                return query;
+            }
+            for (String pair : raw.split("&")) {
+                int separator = pair.indexOf('=');
+                String key = separator < 0 ? pair : pair.substring(0, separator);
+                String value = separator < 0 ? "" : pair.substring(separator + 1);
+                query.put(
+                    URLDecoder.decode(key, StandardCharsets.UTF_8),
+                    URLDecoder.decode(value, StandardCharsets.UTF_8));
+            }
+            return query;
+        }
+
+        private byte[] render(Iterable<byte[]> bodies) {
+            StringBuilder array = new StringBuilder("[");
+            for (byte[] body : bodies) {
+                if (array.length() > 1) {
+                    array.append(',');
+                }
+                array.append(new String(body, StandardCharsets.UTF_8));
+            }
+            return array.append(']').toString().getBytes(StandardCharsets.UTF_8);
+        }
+
+        private Integer parseId(String segment) {
+            try {
+                return Integer.valueOf(segment);
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+    }
+
+    /**
+     * A rendered list response tagged with the store version it was rendered from.
+     */
+    private static final class Listing {
+
+        private final long version;
+        private final byte[] body;
+        private final String etag;
+
+        private Listing(long version, byte[] body) {
+            this.version = version;
+            this.body = body;
+            this.etag = "\"" + version + "\"";
+        }
+    }
+}
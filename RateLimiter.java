@@ -0,0 +1,160 @@
+package com.softserve.taf.services.common;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * This class is a token bucket that spaces requests to a sustainable rate instead of letting them hit a quota.
+ * It keeps the bucket as a single theoretical arrival time updated by compare-and-set, so acquiring a
+ * token never takes a lock. A burst of tokens may be taken at once; the rate ramps up linearly from a cold
+ * rate to the target rate during the warm-up period that starts with the first request.
+ * @since 18Oct2026
+ */
+public class RateLimiter {
+
+    private static final long UNSTARTED = Long.MIN_VALUE;
+    private static final RateLimiter UNLIMITED = new RateLimiter(Double.MAX_VALUE, 1, Duration.ZERO);
+
+    private final long stableIntervalNanos;
+    private final long coldIntervalNanos;
+    private final long warmUpNanos;
+    private final int burst;
+    private final AtomicLong nextFree = new AtomicLong(UNSTARTED);
+    private final AtomicLong startedAt = new AtomicLong(UNSTARTED);
+
+    /**
+     * Constructs a new RateLimiter.
+     *
+     * @param permitsPerSecond The sustained rate of requests.
+     * @param burst            The number of requests that may be sent back to back after an idle period.
+     * @param warmUp           The time over which the rate ramps up from a third of the target; zero for none.
+     */
+    public RateLimiter(double permitsPerSecond, int burst, Duration warmUp) {
+        if (permitsPerSecond <= 0 || burst <= 0) {
+            throw new IllegalArgumentException("Rate and burst must be positive but were "
+                + permitsPerSecond + " and " + burst);
+        }
+        this.stableIntervalNanos = Math.max(1, Math.round(TimeUnit.SECONDS.toNanos(1) / permitsPerSecond));
+        this.coldIntervalNanos = warmUp.isZero() ? stableIntervalNanos : stableIntervalNanos * 3;
+        this.warmUpNanos = warmUp.toNanos();
+        this.burst = burst;
+    }
+
+    /**
+     * Returns a limiter that never delays requests.
+     *
+     * @return The unlimited RateLimiter
+     */
+    public static RateLimiter unlimited() {
+        return UNLIMITED;
+    }
+
+    /**
+     * Creates a limiter with the given rate, no burst and no warm-up.
+     *
+     * @param permitsPerSecond The sustained rate of requests.
+     * @return A new RateLimiter
+     */
+    public static RateLimiter of(double permitsPerSecond) {
+        return new RateLimiter(permitsPerSecond, 1, Duration.ZERO);
+    }
+
+    /**
+     * Takes a token, waiting until one is available.
+     *
+     * @return The time waited in nanoseconds
+     */
+    public long acquire() {
+        if (this == UNLIMITED) {
+            return 0;
+        }
+        long wait = reserve(Long.MAX_VALUE);
+        if (wait > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(wait);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for a rate limit token", e);
+            }
+        }
+        return wait;
+    }
+
+    /**
+     * Takes a token if one becomes available within the given timeout, waiting for it when needed.
+     *
+     * @param timeout The maximum time to wait.
+     * @return True if a token was taken
+     */
+    public boolean tryAcquire(Duration timeout) {
+        if (this == UNLIMITED) {
+            return true;
+        }
+        long wait = reserve(timeout.toNanos());
+        if (wait < 0) {
+            return false;
+        }
+        if (wait > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(wait);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Takes a token without waiting, for callers that delay their request instead of blocking a thread.
+     *
+     * @return The time in nanoseconds the caller must wait before sending its request
+     */
+    public long reserve() {
+        if (this == UNLIMITED) {
+            return 0;
+        }
+        return reserve(Long.MAX_VALUE);
+    }
+
+    /**
+     * Returns the interval between requests currently enforced, which shrinks during the warm-up.
+     *
+     * @return The current interval in nanoseconds
+     */
+    public long getCurrentIntervalNanos() {
+        return intervalAt(System.nanoTime());
+    }
+
+    private long reserve(long maxWaitNanos) {
+        long now = System.nanoTime();
+        startedAt.compareAndSet(UNSTARTED, now);
+        long interval = intervalAt(now);
+        long tolerance = (burst - 1) * interval;
+        while (true) {
+            long current = nextFree.get();
+            long arrival = current == UNSTARTED ? now : Math.max(current, now - tolerance);
+            long wait = arrival - now;
+            if (wait > maxWaitNanos) {
+                return -1;
+            }
+            if (nextFree.compareAndSet(current, arrival + interval)) {
+                return Math.max(0, wait);
+            }
+        }
+    }
+
+    private long intervalAt(long now) {
+        long started = startedAt.get();
+        if (started == UNSTARTED) {
+            return coldIntervalNanos;
+        }
+        long elapsed = now - started;
+        if (elapsed >= warmUpNanos) {
+            return stableIntervalNanos;
+        }
+        double progress = (double) elapsed / warmUpNanos;
+        return Math.round(coldIntervalNanos - (coldIntervalNanos - stableIntervalNanos) * progress);
+    }
+}
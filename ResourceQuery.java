@@ -0,0 +1,61 @@
+package com.softserve.taf.services.common;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * This class collects the query parameters that narrow down a collection GET on the server side.
+ * Subclasses add typed filter methods for the fields of one resource.
+ * @since 18Oct2026
+ *
+ * @param <Q> The concrete query type, returned by every builder method
+ */
+public abstract class ResourceQuery<Q extends ResourceQuery<Q>> {
+
+    private final Map<String, Object> params = new LinkedHashMap<>();
+
+    /**
+     * Limits the returned rows to the given fields.
+     * Services that do not support the _fields parameter ignore it and return full rows.
+     *
+     * @param fields The names of the fields to return.
+     * @return This query
+     */
+    public Q fields(String... fields) {
+        return param("_fields", String.join(",", fields));
+    }
+
+    /**
+     * Returns the collected query parameters.
+     *
+     * @return An unmodifiable map of parameter name to value
+     */
+    public Map<String, Object> toQueryParams() {
+        return Collections.unmodifiableMap(params);
+    }
+
+    /**
+     * Adds a query parameter, replacing any previous value with the same name.
+     *
+     * @param name  The name of the query parameter.
+     * @param value The value of the query parameter.
+     * @return This query
+     */
+    protected Q param(String name, Object value) {
+        params.put(name, value);
+        return self();
+    }
+
+    /**
+     * Returns this instance typed as the concrete query class.
+     *
+     * @return This query
+     */
+    protected abstract Q self();
+
+    @Override
+    public String toString() {
+        return params.toString();
+    }
+}
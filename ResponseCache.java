@@ -0,0 +1,230 @@
+package com.softserve.taf.services.common;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+import java.util.function.UnaryOperator;
+
+/**
+ * This class is a read-through cache for deserialized GET responses.
+ * Entries expire after a fixed time to live, and the least recently used entries are evicted
+ * once the total weight of the cached values exceeds the configured maximum.
+ * Lookups read a concurrent map without locking; only loads and invalidations take the write lock.
+ * Mutable values are copied on the way in and on every hit, so callers never share a cached instance.
+ * @since 18Oct2026
+ *
+ * @param <K> The type of the cache key
+ * @param <V> The type of the cached value
+ */
+public class ResponseCache<K, V> {
+
+    private final long ttlNanos;
+    private final long maxWeight;
+    private final ToLongFunction<? super V> weigher;
+    private final UnaryOperator<V> copier;
+    private final ConcurrentMap<K, Entry<V>> entries = new ConcurrentHashMap<>();
+    private final Object writeLock = new Object();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private long totalWeight;
+    private volatile long generation;
+
+    /**
+     * Constructs a new ResponseCache of immutable values in which every entry has a weight of one.
+     *
+     * @param ttl        The time an entry stays valid after it was loaded.
+     * @param maxEntries The maximum number of cached entries.
+     */
+    public ResponseCache(Duration ttl, long maxEntries) {
+        this(ttl, maxEntries, value -> 1);
+    }
+
+    /**
+     * Constructs a new ResponseCache of immutable values bounded by the total weight of its values.
+     *
+     * @param ttl       The time an entry stays valid after it was loaded.
+     * @param maxWeight The maximum total weight of the cached values.
+     * @param weigher   The function computing the weight of a value.
+     */
+    public ResponseCache(Duration ttl, long maxWeight, ToLongFunction<? super V> weigher) {
+        this(ttl, maxWeight, weigher, UnaryOperator.identity());
+    }
+
+    /**
+     * Constructs a new ResponseCache of mutable values bounded by the total weight of its values.
+     *
+     * @param ttl       The time an entry stays valid after it was loaded.
+     * @param maxWeight The maximum total weight of the cached values.
+     * @param weigher   The function computing the weight of a value.
+     * @param copier    The function returning an independent copy of a value.
+     */
+    public ResponseCache(Duration ttl, long maxWeight, ToLongFunction<? super V> weigher, UnaryOperator<V> copier) {
+        this.ttlNanos = ttl.toNanos();
+        this.maxWeight = maxWeight;
+        this.weigher = weigher;
+        this.copier = copier;
+    }
+
+    /**
+     * Creates a cache that stores nothing and always calls the loader.
+     *
+     * @return A pass-through ResponseCache
+     */
+    public static <K, V> ResponseCache<K, V> disabled() {
+        return new ResponseCache<>(Duration.ZERO, 0);
+    }
+
+    /**
+     * Returns a copy of the cached value for the key, loading and caching it when absent or expired.
+     * The loader runs outside the write lock, so concurrent misses for one key may each load it.
+     * A loaded value is not cached when an invalidation happened while it was loading, so a value read
+     * before a create or update never replaces the state after it.
+     *
+     * @param key    The cache key.
+     * @param loader The function fetching the value on a miss.
+     * @return The cached or freshly loaded value
+     */
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        if (maxWeight <= 0) {
+            return loader.apply(key);
+        }
+        long now = System.nanoTime();
+        Entry<V> entry = entries.get(key);
+        if (entry != null && entry.expiresAt - now > 0) {
+            entry.lastAccess = now;
+            hits.increment();
+            return copier.apply(entry.value);
+        }
+        long loadGeneration = generation;
+        misses.increment();
+        V value = loader.apply(key);
+        put(key, value, loadGeneration);
+        return value;
+    }
+
+    /**
+     * Removes the entry for the given key.
+     *
+     * @param key The cache key.
+     */
+    public void invalidate(K key) {
+        synchronized (writeLock) {
+            generation++;
+            remove(key);
+        }
+    }
+
+    /**
+     * Removes every entry.
+     */
+    public void invalidateAll() {
+        synchronized (writeLock) {
+            generation++;
+            entries.clear();
+            totalWeight = 0;
+        }
+    }
+
+    /**
+     * Returns the number of lookups served from the cache.
+     *
+     * @return The hit count
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Returns the number of lookups that had to call the loader.
+     *
+     * @return The miss count
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * Returns the number of entries evicted to stay within the maximum weight.
+     *
+     * @return The eviction count
+     */
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    private void put(K key, V value, long loadGeneration) {
+        long weight = weigher.applyAsLong(value);
+        if (weight > maxWeight) {
+            return;
+        }
+        V copy = copier.apply(value);
+        synchronized (writeLock) {
+            if (loadGeneration != generation) {
+                return;
+            }
+            long now = System.nanoTime();
+            remove(key);
+            entries.put(key, new Entry<>(copy, weight, now + ttlNanos, now));
+            totalWeight += weight;
+            if (totalWeight > maxWeight) {
+                evictLeastRecentlyUsed();
+            }
+        }
+    }
+
+    private void evictLeastRecentlyUsed() {
+        // Hits keep updating the access times, so they are read once before sorting.
+        List<Candidate<K, V>> byAccess = new ArrayList<>(entries.size());
+        entries.forEach((key, entry) -> byAccess.add(new Candidate<>(key, entry, entry.lastAccess)));
+        byAccess.sort(Comparator.comparingLong(candidate -> candidate.lastAccess));
+        for (int i = 0; i < byAccess.size() && totalWeight > maxWeight; i++) {
+            Candidate<K, V> eldest = byAccess.get(i);
+            if (entries.remove(eldest.key, eldest.entry)) {
+                totalWeight -= eldest.entry.weight;
+                evictions.increment();
+            }
+        }
+    }
+
+    private void remove(K key) {
+        Entry<V> removed = entries.remove(key);
+        if (removed != null) {
+            totalWeight -= removed.weight;
+        }
+    }
+
+    private static final class Entry<V> {
+
+        private final V value;
+        private final long weight;
+        private final long expiresAt;
+        private volatile long lastAccess;
+
+        private Entry(V value, long weight, long expiresAt, long lastAccess) {
+            this.value = value;
+            this.weight = weight;
+            this.expiresAt = expiresAt;
+            this.lastAccess = lastAccess;
+        }
+    }
+
+    private static final class Candidate<K, V> {
+
+        private final K key;
+        private final Entry<V> entry;
+        private final long lastAccess;
+
+        private Candidate(K key, Entry<V> entry, long lastAccess) {
+            this.key = key;
+            this.entry = entry;
+            this.lastAccess = lastAccess;
+        }
+    }
+}
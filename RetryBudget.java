@@ -0,0 +1,72 @@
+package com.softserve.taf.services.common;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * This class caps retries to a fraction of the requests sent, so retries cannot amplify an overload.
+ * Every original request deposits the retry ratio into the budget and every retry withdraws one;
+ * the reserve allows a burst of retries before enough requests have been made.
+ * @since 18Oct2026
+ */
+public class RetryBudget {
+
+    private static final long SCALE = 1000;
+    private static final RetryBudget SHARED = new RetryBudget(0.1, 20);
+
+    private final AtomicLong balance;
+    private final long deposit;
+    private final long capacity;
+
+    /**
+     * Constructs a new RetryBudget that starts full.
+     *
+     * @param retryRatio The number of retries earned by each original request, e.g. 0.1 for one in ten.
+     * @param reserve    The maximum number of retries the budget can hold.
+     */
+    public RetryBudget(double retryRatio, int reserve) {
+        this.deposit = Math.round(retryRatio * SCALE);
+        this.capacity = reserve * SCALE;
+        this.balance = new AtomicLong(capacity);
+    }
+
+    /**
+     * Returns the budget shared by every endpoint that has no budget of its own.
+     *
+     * @return The shared RetryBudget
+     */
+    public static RetryBudget shared() {
+        return SHARED;
+    }
+
+    /**
+     * Credits the budget for an original request.
+     */
+    public void onRequest() {
+        balance.updateAndGet(current -> Math.min(capacity, current + deposit));
+    }
+
+    /**
+     * Withdraws one retry from the budget.
+     *
+     * @return True if the retry may be made, false when the budget is exhausted
+     */
+    public boolean tryAcquire() {
+        long current;
+        do {
+            current = balance.get();
+            if (current < SCALE) {
+                return false;
+            }
+        } while (!balance.compareAndSet(current, current - SCALE));
+        return true;
+    }
+
+    /**
+     * Returns the number of retries currently available.
+     *
+     * @return The available retries
+     */
+    public long getAvailable() {
+        return balance.get() / SCALE;
+    }
+}
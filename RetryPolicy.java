@@ -0,0 +1,219 @@
+package com.softserve.taf.services.common;
+
+import io.restassured.response.ExtractableResponse;
+import io.restassured.response.Response;
+import io.restassured.response.ValidatableResponse;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import com.softserve.taf.models.enums.HttpStatus;
+
+/**
+ * This class re-sends a request whose response has a transient status code, such as 429 or 503.
+ * Each retried status has its own attempt limit. Retries wait a jittered exponential backoff, or the
+ * server's Retry-After when it is present, and stop as soon as the shared RetryBudget is exhausted.
+ * The final response is returned as-is, so the caller's status check still applies to it.
+ * POST and PATCH requests are only re-sent on 429 and 503, which tell that the request was not processed;
+ * a 502 or 504 may come after the server already applied it, so re-sending could apply it twice.
+ * @since 18Oct2026
+ */
+public class RetryPolicy {
+
+    private static final RetryPolicy NONE = builder().build();
+    private static final Set<String> NON_IDEMPOTENT_METHODS = Set.of("POST", "PATCH");
+    private static final Set<Integer> NOT_PROCESSED_STATUSES = Set.of(429, 503);
+
+    private final Map<Integer, Integer> maxRetries;
+    private final long baseDelayNanos;
+    private final long maxDelayNanos;
+    private final RetryBudget budget;
+
+    private RetryPolicy(Builder builder) {
+        this.maxRetries = Map.copyOf(builder.maxRetries);
+        this.baseDelayNanos = builder.baseDelay.toNanos();
+        this.maxDelayNanos = builder.maxDelay.toNanos();
+        this.budget = builder.budget;
+    }
+
+    /**
+     * Returns a policy that never retries.
+     *
+     * @return The no-retry RetryPolicy
+     */
+    public static RetryPolicy none() {
+        return NONE;
+    }
+
+    /**
+     * Returns a policy retrying 429, 502, 503 and 504 responses up to three times with the default backoff.
+     * POST and PATCH requests are retried on 429 and 503 only.
+     *
+     * @return A RetryPolicy for transient overload failures
+     */
+    public static RetryPolicy transientFailures() {
+        return builder()
+            .retryOn(429, 3)
+            .retryOn(502, 3)
+            .retryOn(503, 3)
+            .retryOn(504, 3)
+            .build();
+    }
+
+    /**
+     * Returns a builder for a custom policy; nothing is retried until a status is added.
+     *
+     * @return A new Builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Sends the request and re-sends it while its status is retryable, its attempts and the budget allow it.
+     *
+     * @param call     The call sending the request; invoked once per attempt.
+     * @param endpoint The simple name of the endpoint class used as a metrics tag.
+     * @param method   The HTTP method.
+     * @param path     The path template.
+     * @param metrics  The registry receiving one retry count per re-sent request.
+     * @return The response of the last attempt
+     */
+    public ValidatableResponse execute(Supplier<ValidatableResponse> call, String endpoint, String method,
+                                       String path, EndpointMetrics metrics) {
+        ValidatableResponse response = call.get();
+        if (maxRetries.isEmpty()) {
+            return response;
+        }
+        budget.onRequest();
+        for (int attempt = 0; ; attempt++) {
+            ExtractableResponse<Response> extracted = response.extract();
+            int status = extracted.statusCode();
+            if (attempt >= retryLimit(method, status)) {
+                return response;
+            }
+            long delay = delayNanos(extracted.header("Retry-After"), attempt);
+            if (delay > maxDelayNanos || !budget.tryAcquire()) {
+                return response;
+            }
+            // The discarded response is read so that its pooled connection is released before the wait.
+            extracted.asByteArray();
+            metrics.recordRetry(endpoint, method, path, status);
+            try {
+                TimeUnit.NANOSECONDS.sleep(delay);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return response;
+            }
+            response = call.get();
+        }
+    }
+
+    private int retryLimit(String method, int status) {
+        if (NON_IDEMPOTENT_METHODS.contains(method) && !NOT_PROCESSED_STATUSES.contains(status)) {
+            return 0;
+        }
+        return maxRetries.getOrDefault(status, 0);
+    }
+
+    private long delayNanos(String retryAfter, int attempt) {
+        if (retryAfter != null) {
+            long requested = parseRetryAfter(retryAfter.trim());
+            if (requested >= 0) {
+                return requested;
+            }
+        }
+        long ceiling = Math.min(maxDelayNanos, baseDelayNanos << Math.min(attempt, 30));
+        return ThreadLocalRandom.current().nextLong(ceiling + 1);
+    }
+
+    private static long parseRetryAfter(String value) {
+        try {
+            return TimeUnit.SECONDS.toNanos(Long.parseLong(value));
+        } catch (NumberFormatException notSeconds) {
+            try {
+                ZonedDateTime at = ZonedDateTime.parse(value, DateTimeFormatter.RFC_1123_DATE_TIME);
+                return Math.max(0, Duration.between(ZonedDateTime.now(at.getZone()), at).toNanos());
+            } catch (DateTimeParseException notDate) {
+                return -1;
+            }
+        }
+    }
+
+    /**
+     * This class builds a RetryPolicy.
+     */
+    public static final class Builder {
+
+        private final Map<Integer, Integer> maxRetries = new HashMap<>();
+        private Duration baseDelay = Duration.ofMillis(100);
+        private Duration maxDelay = Duration.ofSeconds(5);
+        private RetryBudget budget = RetryBudget.shared();
+
+        private Builder() {
+        }
+
+        /**
+         * Retries responses with the given status.
+         *
+         * @param status     The retryable HTTP status.
+         * @param maxRetries The maximum number of retries after the first attempt.
+         * @return This Builder
+         */
+        public Builder retryOn(HttpStatus status, int maxRetries) {
+            return retryOn(status.getCode(), maxRetries);
+        }
+
+        /**
+         * Retries responses with the given status code.
+         *
+         * @param statusCode The retryable HTTP status code.
+         * @param maxRetries The maximum number of retries after the first attempt.
+         * @return This Builder
+         */
+        public Builder retryOn(int statusCode, int maxRetries) {
+            this.maxRetries.put(statusCode, maxRetries);
+            return this;
+        }
+
+        /**
+         * Sets the backoff: the n-th retry waits a random time up to base * 2^n, capped at max.
+         * A Retry-After longer than the maximum delay is not waited for and ends the retries.
+         *
+         * @param baseDelay The upper bound of the first wait; 100 ms by default.
+         * @param maxDelay  The upper bound of any wait; 5 s by default.
+         * @return This Builder
+         */
+        public Builder backoff(Duration baseDelay, Duration maxDelay) {
+            this.baseDelay = baseDelay;
+            this.maxDelay = maxDelay;
+            return this;
+        }
+
+        /**
+         * Sets the budget retries are withdrawn from.
+         *
+         * @param budget The RetryBudget; RetryBudget.shared() by default.
+         * @return This Builder
+         */
+        public Builder budget(RetryBudget budget) {
+            this.budget = budget;
+            return this;
+        }
+
+        /**
+         * Creates the RetryPolicy.
+         *
+         * @return A new RetryPolicy
+         */
+        public RetryPolicy build() {
+            return new RetryPolicy(this);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.softserve.taf.services.common;
+
+import java.io.ByteArrayOutputStream;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * This class keeps a bounded set of growable buffers that serializers write into.
+ * Buffers that grew beyond the retained capacity are dropped instead of being pooled,
+ * so one oversized payload does not pin memory for the rest of the run.
+ * @since 18Oct2026
+ */
+public class SerializationBufferPool {
+
+    private static final SerializationBufferPool SHARED = new SerializationBufferPool(64, 4 * 1024, 1024 * 1024);
+
+    private final BlockingQueue<Buffer> buffers;
+    private final int initialCapacity;
+    private final int maxRetainedCapacity;
+
+    /**
+     * Constructs a new SerializationBufferPool.
+     *
+     * @param maxPooled           The maximum number of idle buffers kept.
+     * @param initialCapacity     The capacity of a newly created buffer.
+     * @param maxRetainedCapacity The largest buffer capacity that is returned to the pool.
+     */
+    public SerializationBufferPool(int maxPooled, int initialCapacity, int maxRetainedCapacity) {
+        this.buffers = new ArrayBlockingQueue<>(maxPooled);
+        this.initialCapacity = initialCapacity;
+        this.maxRetainedCapacity = maxRetainedCapacity;
+    }
+
+    /**
+     * Returns the pool shared by all codecs.
+     *
+     * @return The shared SerializationBufferPool
+     */
+    public static SerializationBufferPool shared() {
+        return SHARED;
+    }
+
+    /**
+     * Takes an empty buffer from the pool, creating one when none is idle.
+     *
+     * @return An empty Buffer
+     */
+    public Buffer borrow() {
+        Buffer buffer = buffers.poll();
+        return buffer != null ? buffer : new Buffer(initialCapacity);
+    }
+
+    /**
+     * Returns a buffer to the pool once its content has been copied out.
+     *
+     * @param buffer The buffer taken from {@link #borrow()}.
+     */
+    public void release(Buffer buffer) {
+        if (buffer.capacity() <= maxRetainedCapacity) {
+            buffer.reset();
+            buffers.offer(buffer);
+        }
+    }
+
+    /**
+     * A reusable output buffer.
+     */
+    public static final class Buffer extends ByteArrayOutputStream {
+
+        private Buffer(int capacity) {
+            super(capacity);
+        }
+
+        private int capacity() {
+            return buf.length;
+        }
+    }
+}
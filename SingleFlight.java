@@ -0,0 +1,98 @@
+package com.softserve.taf.services.common;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * This class lets concurrent identical calls share one execution.
+ * The first caller for a key runs the call; callers arriving while it is in flight wait for and receive
+ * the same result or failure. Nothing is kept once the call completes, so later callers run it again.
+ * @since 18Oct2026
+ *
+ * @param <K> The type of the key identifying identical calls
+ * @param <V> The type of the shared result
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight;
+    private final LongAdder shared = new LongAdder();
+
+    private SingleFlight(boolean enabled) {
+        this.inFlight = enabled ? new ConcurrentHashMap<>() : null;
+    }
+
+    /**
+     * Creates a SingleFlight that coalesces concurrent calls.
+     *
+     * @return An enabled SingleFlight
+     */
+    public static <K, V> SingleFlight<K, V> enabled() {
+        return new SingleFlight<>(true);
+    }
+
+    /**
+     * Creates a SingleFlight that runs every call on its own.
+     *
+     * @return A pass-through SingleFlight
+     */
+    public static <K, V> SingleFlight<K, V> disabled() {
+        return new SingleFlight<>(false);
+    }
+
+    /**
+     * Runs the call, or joins the identical call already in flight for the key.
+     *
+     * @param key  The key identifying identical calls.
+     * @param call The call to run when none is in flight.
+     * @return The result of the call, shared by every caller that joined it
+     */
+    public V execute(K key, Supplier<? extends V> call) {
+        if (inFlight == null) {
+            return call.get();
+        }
+        CompletableFuture<V> own = new CompletableFuture<>();
+        CompletableFuture<V> running = inFlight.putIfAbsent(key, own);
+        if (running != null) {
+            shared.increment();
+            return join(running);
+        }
+        try {
+            V value = call.get();
+            own.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            own.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, own);
+        }
+    }
+
+    /**
+     * Returns the number of calls that joined another caller's call instead of running their own.
+     *
+     * @return The shared call count
+     */
+    public long getSharedCount() {
+        return shared.sum();
+    }
+
+    private static <V> V join(CompletableFuture<V> running) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw e;
+        }
+    }
+}
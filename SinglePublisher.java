@@ -0,0 +1,73 @@
+package com.softserve.taf.services.common;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * This class publishes the single result of an asynchronous call.
+ * The call is started for each subscriber when it first requests an element, and no thread is blocked
+ * while it is in flight.
+ * @since 18Oct2026
+ *
+ * @param <T> The type of the published value
+ */
+public class SinglePublisher<T> implements Flow.Publisher<T> {
+
+    private final Supplier<? extends CompletableFuture<? extends T>> call;
+
+    /**
+     * Constructs a new SinglePublisher.
+     *
+     * @param call The call started for every subscriber.
+     */
+    public SinglePublisher(Supplier<? extends CompletableFuture<? extends T>> call) {
+        this.call = call;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super T> subscriber) {
+        subscriber.onSubscribe(new Flow.Subscription() {
+            private final AtomicBoolean started = new AtomicBoolean();
+            private volatile boolean cancelled;
+
+            @Override
+            public void request(long n) {
+                if (!started.compareAndSet(false, true)) {
+                    return;
+                }
+                if (n <= 0) {
+                    subscriber.onError(new IllegalArgumentException("Requested " + n + " elements"));
+                    return;
+                }
+                CompletableFuture<? extends T> result;
+                try {
+                    result = call.get();
+                } catch (RuntimeException e) {
+                    subscriber.onError(e);
+                    return;
+                }
+                result.whenComplete((value, failure) -> {
+                    if (cancelled) {
+                        return;
+                    }
+                    if (failure != null) {
+                        subscriber.onError(failure instanceof CompletionException ? failure.getCause() : failure);
+                    } else {
+                        subscriber.onNext(value);
+                        subscriber.onComplete();
+                    }
+                });
+            }
+
+            @Override
+            public void cancel() {
+                cancelled = true;
+                // A request arriving after cancel() must not start the call, e.g. send a POST.
+                started.set(true);
+            }
+        });
+    }
+}
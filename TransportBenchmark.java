@@ -0,0 +1,120 @@
+package com.softserve.taf.benchmarks;
+
+import io.restassured.builder.RequestSpecBuilder;
+import io.restassured.http.ContentType;
+import io.restassured.specification.RequestSpecification;
+import java.net.http.HttpClient;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import com.softserve.taf.models.placeholder.user.UserDto;
+import com.softserve.taf.services.common.EndpointExecutor;
+import com.softserve.taf.services.placeholder.endpoints.UserEndpoint;
+import com.softserve.taf.services.placeholder.stub.PlaceholderStubServer;
+
+/**
+ * This class compares the transports of UserEndpoint for a getById fan-out.
+ * REST_ASSURED is the current blocking transport over pooled HTTP/1.1 connections; HTTP_1_1 and HTTP_2 send
+ * the requests through the asynchronous client. Every transport keeps at most concurrency requests in flight,
+ * so they differ only in how the requests share connections. The in-process stub only speaks HTTP/1.1, so
+ * set -Dbenchmark.baseUri to an HTTP/2-capable server (https for ALPN) to measure multiplexing.
+ * @since 18Oct2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class TransportBenchmark {
+
+    /**
+     * The transports being compared.
+     */
+    public enum Transport {
+        REST_ASSURED, HTTP_1_1, HTTP_2
+    }
+
+    @Param({"REST_ASSURED", "HTTP_1_1", "HTTP_2"})
+    public Transport transport;
+
+    @Param({"1000"})
+    public int ids;
+
+    @Param({"64"})
+    public int concurrency;
+
+    private PlaceholderStubServer server;
+    private EndpointExecutor executor;
+    private UserEndpoint users;
+    private List<String> userIds;
+
+    @Setup
+    public void setUp() {
+        String baseUri = System.getProperty("benchmark.baseUri");
+        if (baseUri == null) {
+            server = new PlaceholderStubServer(ids);
+            baseUri = server.getBaseUri();
+        }
+        RequestSpecification specification = new RequestSpecBuilder()
+            .setBaseUri(baseUri)
+            .setContentType(ContentType.JSON)
+            .build();
+        executor = EndpointExecutor.platformThreads(concurrency);
+        users = new UserEndpoint(specification).withExecutor(executor);
+        if (transport == Transport.HTTP_2) {
+            users.withHttpVersion(HttpClient.Version.HTTP_2);
+        }
+        userIds = IntStream.rangeClosed(1, ids).mapToObj(String::valueOf).collect(Collectors.toList());
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.close();
+        if (server != null) {
+            server.close();
+        }
+    }
+
+    @Benchmark
+    public Map<String, UserDto> getByIdFanOut() {
+        if (transport == Transport.REST_ASSURED) {
+            return users.getByIds(userIds);
+        }
+        Semaphore inFlight = new Semaphore(concurrency);
+        Map<String, CompletableFuture<UserDto>> calls = new LinkedHashMap<>();
+        for (String id : userIds) {
+            inFlight.acquireUninterruptibly();
+            calls.put(id, users.getByIdAsync(id).whenComplete((user, failure) -> inFlight.release()));
+        }
+        Map<String, UserDto> byId = new LinkedHashMap<>();
+        calls.forEach((id, call) -> byId.put(id, call.join()));
+        return byId;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(TransportBenchmark.class.getSimpleName())
+            .build()).run();
+    }
+}
@@ -1,13 +1,60 @@
 package com.softserve.taf.services.placeholder.endpoints;
 
+import io.restassured.RestAssured;
+import io.restassured.response.Response;
 import io.restassured.response.ValidatableResponse;
 import io.restassured.specification.RequestSpecification;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import com.softserve.taf.models.enums.HttpStatus;
 import com.softserve.taf.models.placeholder.user.UserDto;
 import com.softserve.taf.services.common.AbstractWebEndpoint;
+import com.softserve.taf.services.common.AsyncWebClient;
+import com.softserve.taf.services.common.BulkFailureReport;
+import com.softserve.taf.services.common.Bulkhead;
+import com.softserve.taf.services.common.CallRejectedException;
+import com.softserve.taf.services.common.CallTiming;
+import com.softserve.taf.services.common.CallTimingFilter;
+import com.softserve.taf.services.common.CallTimingListener;
+import com.softserve.taf.services.common.CircuitBreaker;
+import com.softserve.taf.services.common.ConditionalCache;
+import com.softserve.taf.services.common.ConnectionPoolManager;
+import com.softserve.taf.services.common.EncodedBody;
+import com.softserve.taf.services.common.EndpointExecutor;
+import com.softserve.taf.services.common.EndpointMetrics;
+import com.softserve.taf.services.common.IndexedResult;
+import com.softserve.taf.services.common.JacksonCodec;
+import com.softserve.taf.services.common.JsonArrayPublisher;
+import com.softserve.taf.services.common.JsonCodec;
+import com.softserve.taf.services.common.LocalEndpointMetrics;
+import com.softserve.taf.services.common.MeteredInputStream;
+import com.softserve.taf.services.common.MetricsFilter;
+import com.softserve.taf.services.common.PagedIterator;
+import com.softserve.taf.services.common.RateLimiter;
+import com.softserve.taf.services.common.ResponseCache;
+import com.softserve.taf.services.common.RetryPolicy;
+import com.softserve.taf.services.common.SingleFlight;
+import com.softserve.taf.services.common.SinglePublisher;
 
 /**
  * This class represents the endpoint for managing user-related operations.
@@ -19,6 +66,26 @@ public class UserEndpoint extends AbstractWebEndpoint {
     private static final Logger LOGGER = LogManager.getLogger();
     private static final String USERS_END = "/users";
     private static final String USERS_RESOURCE_END = "/users/{userID}";
+    private static final JsonCodec<UserDto> DEFAULT_CODEC = new JacksonCodec<>(UserDto.class);
+    private static final String ENDPOINT = UserEndpoint.class.getSimpleName();
+
+    private final RequestSpecification streamingSpecification;
+    private AsyncWebClient asyncClient;
+    private EndpointExecutor executor = EndpointExecutor.shared();
+    private JsonCodec<UserDto> codec = DEFAULT_CODEC;
+    private volatile EndpointMetrics metrics = LocalEndpointMetrics.shared();
+    private RetryPolicy retryPolicy = RetryPolicy.none();
+    private Bulkhead bulkhead = Bulkhead.unlimited();
+    private CircuitBreaker circuitBreaker = CircuitBreaker.disabled();
+    private RateLimiter rateLimiter = RateLimiter.unlimited();
+    private final Map<String, RateLimiter> pathRateLimiters = new ConcurrentHashMap<>();
+    private final List<CallTimingListener> timingListeners = new CopyOnWriteArrayList<>();
+    private ResponseCache<String, UserDto> byIdCache = ResponseCache.disabled();
+    private ResponseCache<String, List<UserDto>> listCache = ResponseCache.disabled();
+    private ConditionalCache<List<UserDto>> conditionalAll = ConditionalCache.disabled();
+    private SingleFlight<String, Response> byIdResponses = SingleFlight.disabled();
+    private SingleFlight<String, UserDto> byIdResults = SingleFlight.disabled();
+    private SingleFlight<String, List<UserDto>> listResults = SingleFlight.disabled();
 
     /**
      * Constructs a new UserEndpoint instance with the given specification.
@@ -27,7 +94,229 @@ public class UserEndpoint extends AbstractWebEndpoint {
      * @author Ihor Nahirnyi
      */
     public UserEndpoint(RequestSpecification specification) {
-        super(specification);
+        this(specification, ConnectionPoolManager.shared());
+    }
+
+    /**
+     * Constructs a new UserEndpoint instance whose requests go through the given connection pool.
+     *
+     * @param specification The RequestSpecification used for making HTTP requests.
+     * @param pool          The ConnectionPoolManager providing keep-alive connections.
+     */
+    public UserEndpoint(RequestSpecification specification, ConnectionPoolManager pool) {
+        super(pool.attach(specification));
+        this.streamingSpecification = RestAssured.given()
+            .spec(this.specification)
+            .filter(new CallTimingFilter(ENDPOINT));
+        this.specification.filter(new MetricsFilter(ENDPOINT, () -> metrics));
+        this.specification.filter(new CallTimingFilter(ENDPOINT));
+        this.asyncClient = new AsyncWebClient(specification, ENDPOINT, () -> metrics);
+    }
+
+    /**
+     * Sets the executor used for calls that span several users.
+     * By default batch calls run concurrently on EndpointExecutor.shared(); pass EndpointExecutor.sameThread()
+     * to send them one after another on the calling thread.
+     *
+     * @param executor The EndpointExecutor running each single-user call.
+     * @return This UserEndpoint.
+     */
+    public UserEndpoint withExecutor(EndpointExecutor executor) {
+        this.executor = executor;
+        return this;
+    }
+
+    /**
+     * Sets the HTTP version used by the asynchronous and reactive calls of this endpoint.
+     * HTTP/2 multiplexes concurrent calls over one connection per host instead of one connection per call.
+     * Blocking calls keep going through REST-assured over HTTP/1.1.
+     *
+     * @param version The preferred HTTP version; HTTP/1.1 by default.
+     * @return This UserEndpoint.
+     */
+    public UserEndpoint withHttpVersion(HttpClient.Version version) {
+        this.asyncClient = new AsyncWebClient(this.specification, ENDPOINT, () -> metrics, version);
+        return this;
+    }
+
+    /**
+     * Sets the codec binding UserDto request and response bodies.
+     *
+     * @param codec The JsonCodec to use instead of the default pre-bound Jackson codec.
+     * @return This UserEndpoint.
+     */
+    public UserEndpoint withCodec(JsonCodec<UserDto> codec) {
+        this.codec = codec;
+        return this;
+    }
+
+    /**
+     * Sets the registry receiving latency, size, status and deserialization metrics of every call.
+     *
+     * @param metrics The EndpointMetrics registry; LocalEndpointMetrics.shared() by default.
+     * @return This UserEndpoint.
+     */
+    public UserEndpoint withMetrics(EndpointMetrics metrics) {
+        this.metrics = metrics;
+        return this;
+    }
+
+    /**
+     * Sets the policy re-sending requests that failed with a transient status, such as 429 or 503.
+     * The status check of each method applies to the response of the last attempt.
+     *
+     * @param retryPolicy The RetryPolicy to apply; RetryPolicy.none() by default.
+     * @return This UserEndpoint.
+     */
+    public UserEndpoint withRetryPolicy(RetryPolicy retryPolicy) {
+        this.retryPolicy = retryPolicy;
+        return this;
+    }
+
+    /**
+     * Limits the number of calls all UserEndpoint instances have in flight together.
+     * Calls beyond the limit wait up to maxWait for a free permit and are then rejected with
+     * CallRejectedException, so a degraded service cannot hold the threads of other endpoints.
+     * Every UserEndpoint instance must pass the same limits. Asynchronous and published calls hold no thread
+     * while waiting and are not limited by the bulkhead.
+     *
+     * @param maxConcurrent The maximum number of calls in flight for the endpoint class.
+     * @param maxWait       The time a call waits for a permit.
+     * @return This UserEndpoint.
+     * @throws IllegalStateException If another UserEndpoint instance set different limits
+     */
+    public UserEndpoint withBulkhead(int maxConcurrent, Duration maxWait) {
+        this.bulkhead = Bulkhead.forEndpoint(ENDPOINT, maxConcurrent, maxWait);
+        return this;
+    }
+
+    /**
+     * Sets the circuit breaker that rejects calls while the service keeps failing or responding slowly.
+     * Share one breaker between UserEndpoint instances to fail fast for all of them.
+     * Only blocking calls are guarded; asynchronous and published calls neither check nor feed the breaker.
+     *
+     * @param circuitBreaker The CircuitBreaker guarding each request; CircuitBreaker.disabled() by default.
+     * @return This UserEndpoint.
+     */
+    public UserEndpoint withCircuitBreaker(CircuitBreaker circuitBreaker) {
+        this.circuitBreaker = circuitBreaker;
+        return this;
+    }
+
+    /**
+     * Spaces every request of this endpoint through the given rate limiter.
+     * Asynchronous and published calls take their token when sent and are delayed without blocking a thread.
+     * Pass the same limiter to several endpoints to shape their combined traffic.
+     *
+     * @param rateLimiter The RateLimiter each request takes a token from; RateLimiter.unlimited() by default.
+     * @return This UserEndpoint.
+     */
+    public UserEndpoint withRateLimiter(RateLimiter rateLimiter) {
+        this.rateLimiter = rateLimiter;
+        return this;
+    }
+
+    /**
+     * Spaces the requests to one path template through the given rate limiter, in addition to the
+     * endpoint-wide limiter.
+     *
+     * @param path        The path template, one of /users, /users/{userID}.
+     * @param rateLimiter The RateLimiter requests to that path take a token from.
+     * @return This UserEndpoint.
+     */
+    public UserEndpoint withRateLimiter(String path, RateLimiter rateLimiter) {
+        pathRateLimiters.put(path, rateLimiter);
+        return this;
+    }
+
+    /**
+     * Registers a listener receiving the connect/TTFB/download/validate/deserialize breakdown of every call.
+     *
+     * @param listener The CallTimingListener to notify.
+     * @return This UserEndpoint.
+     */
+    public UserEndpoint addTimingListener(CallTimingListener listener) {
+        timingListeners.add(listener);
+        return this;
+    }
+
+    /**
+     * Returns the phase breakdown of the last call made by the current thread.
+     *
+     * @return The CallTiming of the last call, or null if this thread made no call yet.
+     */
+    public CallTiming getLastCallTiming() {
+        return CallTiming.current();
+    }
+
+    /**
+     * Enables a read-through cache in front of getById and getAll.
+     * A single user weighs one and a full list weighs its size; entries are dropped when
+     * an update or create on this endpoint succeeds.
+     * Every hit returns its own copy, made through the codec, so callers may modify the returned users.
+     *
+     * @param ttl       The time a cached response stays valid.
+     * @param maxWeight The maximum number of users held by each cache.
+     * @return This UserEndpoint.
+     */
+    public UserEndpoint withCache(Duration ttl, long maxWeight) {
+        this.byIdCache = new ResponseCache<>(ttl, maxWeight, value -> 1, this::copy);
+        this.listCache = new ResponseCache<>(ttl, maxWeight, List::size,
+            list -> list.stream().map(this::copy).collect(Collectors.toList()));
+        return this;
+    }
+
+    /**
+     * Makes getAll send conditional requests and reuse the last list on 304 Not Modified.
+     * The last list stays referenced by this endpoint until a newer one replaces it.
+     *
+     * @return This UserEndpoint.
+     */
+    public UserEndpoint withConditionalRequests() {
+        this.conditionalAll = ConditionalCache.enabled();
+        return this;
+    }
+
+    /**
+     * Makes concurrent identical getById and getAll calls share one request.
+     * Callers of getById(id, status) share the response and each checks its own expected status;
+     * timing listeners are notified once, for the caller that sent the request;
+     * callers of getById(id) and getAll() share the deserialized result.
+     *
+     * @return This UserEndpoint.
+     */
+    public UserEndpoint withRequestCoalescing() {
+        this.byIdResponses = SingleFlight.enabled();
+        this.byIdResults = SingleFlight.enabled();
+        this.listResults = SingleFlight.enabled();
+        return this;
+    }
+
+    /**
+     * Returns the number of getById and getAll calls that joined an identical call already in flight.
+     *
+     * @return The coalesced call count.
+     */
+    public long getCoalescedCount() {
+        return byIdResponses.getSharedCount() + byIdResults.getSharedCount() + listResults.getSharedCount();
+    }
+
+    /**
+     * Returns the number of getById and getAll calls served from the cache.
+     *
+     * @return The cache hit count.
+     */
+    public long getCacheHitCount() {
+        return byIdCache.getHitCount() + listCache.getHitCount();
+    }
+
+    /**
+     * Returns the number of getById and getAll calls that had to reach the service.
+     *
+     * @return The cache miss count.
+     */
+    public long getCacheMissCount() {
+        return byIdCache.getMissCount() + listCache.getMissCount();
     }
 
     /**
@@ -38,8 +327,7 @@ public class UserEndpoint extends AbstractWebEndpoint {
      * @author Ihor Nahirnyi
      */
     public UserDto create(UserDto userDto) {
-        return create(userDto, HttpStatus.CREATED)
-            .extract().as(UserDto.class);
+        return deserialize(create(userDto, HttpStatus.CREATED), "POST", USERS_END);
     }
 
     /**
@@ -52,11 +340,59 @@ public class UserEndpoint extends AbstractWebEndpoint {
      */
     public ValidatableResponse create(UserDto userDto, HttpStatus status) {
         LOGGER.info("Create new User");
-        return post(
+        byte[] body = codec.write(userDto);
+        ValidatableResponse response = validate(send("POST", USERS_END, () -> post(
             this.specification,
             USERS_END,
-            userDto)
-            .statusCode(status.getCode());
+            body)), status);
+        if (isSuccessful(response)) {
+            listCache.invalidateAll();
+        }
+        return response;
+    }
+
+    /**
+     * Creates a new user from a body that is already encoded as JSON.
+     *
+     * @param body The encoded UserDto, sent without being serialized again.
+     * @return The created UserDto.
+     */
+    public UserDto create(EncodedBody body) {
+        return deserialize(create(body, HttpStatus.CREATED), "POST", USERS_END);
+    }
+
+    /**
+     * Creates a new user from a body that is already encoded as JSON and validates the HTTP status code.
+     *
+     * @param body   The encoded UserDto, sent without being serialized again.
+     * @param status The expected HTTP status code.
+     * @return A ValidatableResponse containing the HTTP response for validation.
+     */
+    public ValidatableResponse create(EncodedBody body, HttpStatus status) {
+        LOGGER.info("Create new User from encoded body");
+        ValidatableResponse response = validate(send("POST", USERS_END, () -> post(
+            this.specification,
+            USERS_END,
+            body.toByteArray())), status);
+        if (isSuccessful(response)) {
+            listCache.invalidateAll();
+        }
+        return response;
+    }
+
+    /**
+     * Creates several users, running the calls on the configured executor.
+     * Every item is attempted; all failures are reported together once the batch has finished.
+     *
+     * @param userDtos The UserDto objects representing the users to create.
+     * @return The created UserDto objects in the order of the input list.
+     * @throws BulkFailureReport If any user could not be created.
+     */
+    public List<UserDto> createAll(List<UserDto> userDtos) {
+        List<Integer> indexes = IntStream.range(0, userDtos.size()).boxed().collect(Collectors.toList());
+        Map<Integer, UserDto> created = executor.invokeAllReporting(indexes,
+            index -> create(codec.encode(userDtos.get(index))));
+        return List.copyOf(created.values());
     }
 
     /**
@@ -68,8 +404,52 @@ public class UserEndpoint extends AbstractWebEndpoint {
      * @author Ihor Nahirnyi
      */
     public UserDto update(int id, UserDto userDto) {
-        return update(userDto, id, HttpStatus.OK)
-            .extract().as(UserDto.class);
+        return deserialize(update(userDto, id, HttpStatus.OK), "PUT", USERS_RESOURCE_END);
+    }
+
+    /**
+     * Updates an existing user from a body that is already encoded as JSON.
+     *
+     * @param id   The ID of the user to update.
+     * @param body The encoded UserDto, sent without being serialized again.
+     * @return The updated UserDto.
+     */
+    public UserDto update(int id, EncodedBody body) {
+        return deserialize(update(body, id, HttpStatus.OK), "PUT", USERS_RESOURCE_END);
+    }
+
+    /**
+     * Updates an existing user from a body that is already encoded as JSON and validates the HTTP status code.
+     *
+     * @param body   The encoded UserDto, sent without being serialized again.
+     * @param id     The ID of the user to update.
+     * @param status The expected HTTP status code.
+     * @return A ValidatableResponse containing the HTTP response for validation.
+     */
+    public ValidatableResponse update(EncodedBody body, int id, HttpStatus status) {
+        LOGGER.info("Update User by id [{}] from encoded body", id);
+        ValidatableResponse response = validate(send("PUT", USERS_RESOURCE_END, () -> put(
+            this.specification,
+            USERS_RESOURCE_END,
+            body.toByteArray(),
+            id)), status);
+        if (isSuccessful(response)) {
+            invalidate(id);
+        }
+        return response;
+    }
+
+    /**
+     * Updates several users, running the calls on the configured executor.
+     * Every item is attempted; all failures are reported together once the batch has finished.
+     *
+     * @param userDtos The UserDto objects representing the updated user data, keyed by ID.
+     * @return The updated UserDto objects keyed by ID.
+     * @throws BulkFailureReport If any user could not be updated.
+     */
+    public Map<Integer, UserDto> updateAll(Map<Integer, UserDto> userDtos) {
+        return executor.invokeAllReporting(userDtos.keySet(),
+            id -> update(id, codec.encode(userDtos.get(id))));
     }
 
     /**
@@ -83,12 +463,16 @@ public class UserEndpoint extends AbstractWebEndpoint {
      */
     public ValidatableResponse update(UserDto userDto, int id, HttpStatus status) {
         LOGGER.info("Update User by id [{}]", id);
-        return put(
+        byte[] body = codec.write(userDto);
+        ValidatableResponse response = validate(send("PUT", USERS_RESOURCE_END, () -> put(
             this.specification,
             USERS_RESOURCE_END,
-            userDto,
-            id)
-            .statusCode(status.getCode());
+            body,
+            id)), status);
+        if (isSuccessful(response)) {
+            invalidate(id);
+        }
+        return response;
     }
 
     /**
@@ -99,8 +483,8 @@ public class UserEndpoint extends AbstractWebEndpoint {
      * @author Ihor Nahirnyi
      */
     public UserDto getById(String id) {
-        return getById(id, HttpStatus.OK)
-            .extract().as(UserDto.class);
+        return byIdCache.get(id, key -> byIdResults.execute(key,
+            () -> deserialize(getById(key, HttpStatus.OK), "GET", USERS_RESOURCE_END)));
     }
 
     /**
@@ -113,11 +497,49 @@ public class UserEndpoint extends AbstractWebEndpoint {
      */
     public ValidatableResponse getById(String id, HttpStatus status) {
         LOGGER.info("Get User by id [{}]", id);
-        return get(
-            this.specification,
-            USERS_RESOURCE_END,
-            id)
-            .statusCode(status.getCode());
+        CallTiming[] leaderTiming = new CallTiming[1];
+        Response response = byIdResponses.execute(id, () -> {
+            ValidatableResponse sent = send("GET", USERS_RESOURCE_END, () -> get(
+                this.specification,
+                USERS_RESOURCE_END,
+                id));
+            leaderTiming[0] = CallTiming.current();
+            return sent.extract().response();
+        });
+        // Every caller checks its own status on its own ValidatableResponse over the shared, buffered response;
+        // the call is timed once, by its leader.
+        return validate(response.then(), status, leaderTiming[0]);
+    }
+
+    /**
+     * Retrieves users by their IDs, running each call on the configured executor.
+     *
+     * @param ids The IDs of the users to retrieve.
+     * @return The UserDto objects in the order of the given IDs.
+     */
+    public List<UserDto> getById(List<String> ids) {
+        return executor.invokeAll(ids, this::getById);
+    }
+
+    /**
+     * Retrieves several users by their IDs in one batch, running the calls on the configured executor.
+     *
+     * @param ids The IDs of the users to retrieve; duplicates are fetched once.
+     * @return The UserDto objects keyed by ID.
+     */
+    public Map<String, UserDto> getByIds(Collection<String> ids) {
+        return executor.invokeAllByKey(ids, this::getById);
+    }
+
+    /**
+     * Retrieves several users by their IDs in one batch and validates the HTTP status code of each response.
+     *
+     * @param ids    The IDs of the users to retrieve; duplicates are fetched once.
+     * @param status The expected HTTP status code of every response.
+     * @return The ValidatableResponse of each call keyed by ID.
+     */
+    public Map<String, ValidatableResponse> getByIds(Collection<String> ids, HttpStatus status) {
+        return executor.invokeAllByKey(ids, id -> getById(id, status));
     }
 
     /**
@@ -127,7 +549,92 @@ public class UserEndpoint extends AbstractWebEndpoint {
      * @author Ihor Nahirnyi
      */
     public List<UserDto> getAll() {
-        return List.of(getAll(HttpStatus.OK).extract().as(UserDto[].class));
+        return listCache.get(USERS_END, key -> listResults.execute(key, () -> {
+            LOGGER.info("Get all Users");
+            ValidatableResponse response = send("GET", USERS_END,
+                () -> get(conditionalAll.conditional(this.specification), USERS_END));
+            return conditionalAll.resolve(response,
+                full -> deserializeList(validate(full, HttpStatus.OK), "GET", USERS_END));
+        }));
+    }
+
+    /**
+     * Retrieves all users indexed by id.
+     * Further indexes, e.g. on a foreign key, can be added with IndexedResult.withIndex.
+     *
+     * @return An IndexedResult over all users.
+     */
+    public IndexedResult<UserDto> getAllIndexed() {
+        return new IndexedResult<>(getAll(), UserDto::getId);
+    }
+
+    /**
+     * Streams all users, binding each element as it is read from the response body.
+     * The returned stream must be closed to release the underlying response.
+     *
+     * @return A stream of UserDto objects representing all users.
+     */
+    public Stream<UserDto> streamAll() {
+        return codec.stream(openAll());
+    }
+
+    /**
+     * Retrieves the users matching the given query.
+     *
+     * @param query The UserQuery with the filters and fields to apply on the server.
+     * @return A list of UserDto objects matching the query.
+     */
+    public List<UserDto> getAll(UserQuery query) {
+        return deserializeList(getAll(query, HttpStatus.OK), "GET", USERS_END);
+    }
+
+    /**
+     * Retrieves the users matching the given query and validates the HTTP status code.
+     *
+     * @param query  The UserQuery with the filters and fields to apply on the server.
+     * @param status The expected HTTP status code.
+     * @return A ValidatableResponse containing the HTTP response for validation.
+     */
+    public ValidatableResponse getAll(UserQuery query, HttpStatus status) {
+        LOGGER.info("Get all Users by query {}", query);
+        RequestSpecification filtered = RestAssured.given()
+            .spec(this.specification)
+            .queryParams(query.toQueryParams());
+        return validate(send("GET", USERS_END, () -> get(filtered, USERS_END)), status);
+    }
+
+    /**
+     * Retrieves all users page by page, keeping the given number of pages requested ahead.
+     * Pages are fetched concurrently when the endpoint has a concurrent executor, and each page
+     * is expected to return HTTP 200.
+     *
+     * @param pageSize The number of users requested per page.
+     * @param prefetch The number of pages kept in flight ahead of the consumer.
+     * @return A lazily evaluated stream of all users.
+     */
+    public Stream<UserDto> getAllPaged(int pageSize, int prefetch) {
+        return new PagedIterator<UserDto>(
+            page -> deserializeList(getPage(page, pageSize, HttpStatus.OK), "GET", USERS_END),
+            executor,
+            pageSize,
+            prefetch).stream();
+    }
+
+    /**
+     * Retrieves one page of users and validates the HTTP status code.
+     *
+     * @param page     The 1-based page number.
+     * @param pageSize The number of users per page.
+     * @param status   The expected HTTP status code.
+     * @return A ValidatableResponse containing the HTTP response for validation.
+     */
+    public ValidatableResponse getPage(int page, int pageSize, HttpStatus status) {
+        LOGGER.info("Get Users page [{}] of size [{}]", page, pageSize);
+        RequestSpecification paged = RestAssured.given()
+            .spec(this.specification)
+            .queryParam("_page", page)
+            .queryParam("_limit", pageSize);
+        return validate(send("GET", USERS_END, () -> get(paged, USERS_END)), status);
     }
 
     /**
@@ -139,8 +646,242 @@ public class UserEndpoint extends AbstractWebEndpoint {
      */
     public ValidatableResponse getAll(HttpStatus status) {
         LOGGER.info("Get all Users");
-        ValidatableResponse response = get(this.specification, USERS_END);
+        ValidatableResponse response = send("GET", USERS_END, () -> get(this.specification, USERS_END));
+        return validate(response, status);
+    }
+
+    /**
+     * Creates a new user asynchronously without blocking the calling thread.
+     *
+     * @param userDto The UserDto representing the user to create.
+     * @return A future completing with the created UserDto.
+     */
+    public CompletableFuture<UserDto> createAsync(UserDto userDto) {
+        LOGGER.info("Create new User asynchronously");
+        return sendAsync("POST", USERS_END,
+                () -> asyncClient.post(USERS_END, codec.write(userDto), HttpStatus.CREATED))
+            .thenApply(codec::read)
+            .whenComplete((created, failure) -> {
+                if (failure == null) {
+                    listCache.invalidateAll();
+                }
+            });
+    }
+
+    /**
+     * Updates an existing user asynchronously without blocking the calling thread.
+     *
+     * @param id      The ID of the user to update.
+     * @param userDto The UserDto representing the updated user data.
+     * @return A future completing with the updated UserDto.
+     */
+    public CompletableFuture<UserDto> updateAsync(int id, UserDto userDto) {
+        LOGGER.info("Update User by id [{}] asynchronously", id);
+        return sendAsync("PUT", USERS_RESOURCE_END,
+                () -> asyncClient.put(USERS_RESOURCE_END, codec.write(userDto), HttpStatus.OK, id))
+            .thenApply(codec::read)
+            .whenComplete((updated, failure) -> {
+                if (failure == null) {
+                    invalidate(id);
+                }
+            });
+    }
+
+    /**
+     * Retrieves a user by ID asynchronously without blocking the calling thread.
+     *
+     * @param id The ID of the user to retrieve.
+     * @return A future completing with the retrieved UserDto.
+     */
+    public CompletableFuture<UserDto> getByIdAsync(String id) {
+        LOGGER.info("Get User by id [{}] asynchronously", id);
+        return sendAsync("GET", USERS_RESOURCE_END, () -> asyncClient.get(USERS_RESOURCE_END, HttpStatus.OK, id))
+            .thenApply(codec::read);
+    }
+
+    /**
+     * Retrieves several users by their IDs asynchronously, sending every request at once.
+     * With an HTTP/2 transport the requests share one connection as concurrent streams.
+     *
+     * @param ids The IDs of the users to retrieve; duplicates are fetched once.
+     * @return A future completing with the UserDto objects keyed by ID.
+     */
+    public CompletableFuture<Map<String, UserDto>> getByIdsAsync(Collection<String> ids) {
+        Map<String, CompletableFuture<UserDto>> calls = new LinkedHashMap<>();
+        for (String id : ids) {
+            calls.computeIfAbsent(id, this::getByIdAsync);
+        }
+        return CompletableFuture.allOf(calls.values().toArray(CompletableFuture[]::new))
+            .thenApply(done -> {
+                Map<String, UserDto> byId = new LinkedHashMap<>();
+                calls.forEach((id, call) -> byId.put(id, call.join()));
+                return byId;
+            });
+    }
+
+    /**
+     * Retrieves a list of all users asynchronously without blocking the calling thread.
+     *
+     * @return A future completing with the list of all users.
+     */
+    public CompletableFuture<List<UserDto>> getAllAsync() {
+        LOGGER.info("Get all Users asynchronously");
+        return sendAsync("GET", USERS_END, () -> asyncClient.get(USERS_END, HttpStatus.OK))
+            .thenApply(codec::readList);
+    }
+
+    /**
+     * Publishes all users, emitting each one as soon as it is parsed from the response body.
+     * The request is sent when the subscriber first requests an element, and the body is read from the
+     * connection only as fast as the subscriber requests users.
+     *
+     * @return A publisher of all users.
+     */
+    public Flow.Publisher<UserDto> getAllPublisher() {
+        LOGGER.info("Publish all Users");
+        return new JsonArrayPublisher<>(
+            () -> sendAsync("GET", USERS_END, () -> asyncClient.stream(USERS_END, HttpStatus.OK)), codec::read);
+    }
+
+    /**
+     * Publishes the user with the given ID as a single-value publisher.
+     *
+     * @param id The ID of the user to retrieve.
+     * @return A publisher of the retrieved UserDto.
+     */
+    public Flow.Publisher<UserDto> getByIdPublisher(String id) {
+        return new SinglePublisher<>(() -> getByIdAsync(id));
+    }
+
+    /**
+     * Creates a new user when the returned single-value publisher is subscribed to.
+     *
+     * @param userDto The UserDto representing the user to create.
+     * @return A publisher of the created UserDto.
+     */
+    public Flow.Publisher<UserDto> createPublisher(UserDto userDto) {
+        return new SinglePublisher<>(() -> createAsync(userDto));
+    }
+
+    /**
+     * Updates an existing user when the returned single-value publisher is subscribed to.
+     *
+     * @param id      The ID of the user to update.
+     * @param userDto The UserDto representing the updated user data.
+     * @return A publisher of the updated UserDto.
+     */
+    public Flow.Publisher<UserDto> updatePublisher(int id, UserDto userDto) {
+        return new SinglePublisher<>(() -> updateAsync(id, userDto));
+    }
+
+    private void invalidate(int id) {
+        byIdCache.invalidate(String.valueOf(id));
+        listCache.invalidateAll();
+    }
+
+    private ValidatableResponse send(String method, String path, Supplier<ValidatableResponse> call) {
+        // Reading the body hands the pooled connection back; only the streaming reads of openAll() keep it
+        // until the caller closes the stream.
+        return open(method, path, () -> buffered(call.get()));
+    }
+
+    private ValidatableResponse open(String method, String path, Supplier<ValidatableResponse> call) {
+        return retryPolicy.execute(() -> guard(method, path, call), ENDPOINT, method, path, metrics);
+    }
+
+    private InputStream openAll() {
+        long start = System.nanoTime();
+        ValidatableResponse response = open("GET", USERS_END, () -> get(streamingSpecification, USERS_END));
+        int status = response.extract().statusCode();
+        InputStream body = new MeteredInputStream(response.extract().asInputStream(), bytes -> metrics.recordCall(
+            ENDPOINT, "GET", USERS_END, status, System.nanoTime() - start, 0, bytes));
+        try {
+            validate(response, HttpStatus.OK);
+        } catch (AssertionError | RuntimeException e) {
+            try (InputStream unread = body) {
+                unread.transferTo(OutputStream.nullOutputStream());
+            } catch (IOException suppressed) {
+                e.addSuppressed(suppressed);
+            }
+            throw e;
+        }
+        return body;
+    }
+
+    private ValidatableResponse guard(String method, String path, Supplier<ValidatableResponse> call) {
+        long throttled = rateLimiter.acquire() + pathRateLimiters.getOrDefault(path, RateLimiter.unlimited()).acquire();
+        if (throttled > 0) {
+            metrics.recordThrottle(ENDPOINT, method, path, throttled);
+        }
+        try {
+            return bulkhead.execute(() -> circuitBreaker.execute(call, metrics));
+        } catch (CallRejectedException e) {
+            metrics.recordRejection(ENDPOINT, method, path);
+            throw e;
+        }
+    }
+
+    private <T> CompletableFuture<T> sendAsync(String method, String path, Supplier<CompletableFuture<T>> call) {
+        long throttled = Math.max(rateLimiter.reserve(),
+            pathRateLimiters.getOrDefault(path, RateLimiter.unlimited()).reserve());
+        if (throttled <= 0) {
+            return call.get();
+        }
+        metrics.recordThrottle(ENDPOINT, method, path, throttled);
+        Executor delayed = CompletableFuture.delayedExecutor(throttled, TimeUnit.NANOSECONDS);
+        return CompletableFuture.runAsync(() -> { }, delayed).thenCompose(ready -> call.get());
+    }
+
+    private static ValidatableResponse buffered(ValidatableResponse response) {
+        response.extract().asByteArray();
+        CallTiming timing = CallTiming.current();
+        if (timing != null) {
+            timing.markBodyRead();
+        }
+        return response;
+    }
+
+    private ValidatableResponse validate(ValidatableResponse response, HttpStatus status) {
+        return validate(response, status, CallTiming.current());
+    }
+
+    private ValidatableResponse validate(ValidatableResponse response, HttpStatus status, CallTiming timing) {
+        long start = System.nanoTime();
         response.statusCode(status.getCode());
+        if (timing != null) {
+            timing.recordValidation(System.nanoTime() - start);
+            timingListeners.forEach(listener -> listener.onResponse(timing));
+        }
         return response;
     }
+
+    private UserDto copy(UserDto user) {
+        return codec.read(codec.write(user));
+    }
+
+    private UserDto deserialize(ValidatableResponse response, String method, String path) {
+        return bind(response, codec::read, method, path);
+    }
+
+    private List<UserDto> deserializeList(ValidatableResponse response, String method, String path) {
+        return bind(response, codec::readList, method, path);
+    }
+
+    private <T> T bind(ValidatableResponse response, Function<byte[], T> reader, String method, String path) {
+        byte[] body = response.extract().asByteArray();
+        long start = System.nanoTime();
+        T value = reader.apply(body);
+        long nanos = System.nanoTime() - start;
+        metrics.recordDeserialization(ENDPOINT, method, path, nanos);
+        CallTiming timing = CallTiming.current();
+        if (timing != null) {
+            timing.recordDeserialization(nanos);
+            timingListeners.forEach(listener -> listener.onDeserialized(timing));
+        }
+        return value;
+    }
+
+    private static boolean isSuccessful(ValidatableResponse response) {
+        return response.extract().statusCode() / 100 == 2;
+    }
 }
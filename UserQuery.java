@@ -0,0 +1,55 @@
+package com.softserve.taf.services.placeholder.endpoints;
+
+import com.softserve.taf.services.common.ResourceQuery;
+
+/**
+ * This class builds server-side filters for the users collection.
+ * @since 18Oct2026
+ */
+public class UserQuery extends ResourceQuery<UserQuery> {
+
+    /**
+     * Filters users by ID.
+     *
+     * @param id The ID of the user.
+     * @return This UserQuery.
+     */
+    public UserQuery id(int id) {
+        return param("id", id);
+    }
+
+    /**
+     * Filters users by name.
+     *
+     * @param name The name of the user.
+     * @return This UserQuery.
+     */
+    public UserQuery name(String name) {
+        return param("name", name);
+    }
+
+    /**
+     * Filters users by username.
+     *
+     * @param username The username of the user.
+     * @return This UserQuery.
+     */
+    public UserQuery username(String username) {
+        return param("username", username);
+    }
+
+    /**
+     * Filters users by email.
+     *
+     * @param email The email of the user.
+     * @return This UserQuery.
+     */
+    public UserQuery email(String email) {
+        return param("email", email);
+    }
+
+    @Override
+    protected UserQuery self() {
+        return this;
+    }
+}